@@ -0,0 +1,46 @@
+package com.algovise.benchmarks;
+
+import com.algovise.algorithms.AllPairsShortestPaths;
+import com.algovise.algorithms.CsrGraph;
+import com.algovise.algorithms.FloydWarshall;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Floyd-Warshall is cubic in the node count, so it is measured on node counts rather than edge counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllPairsBenchmark {
+
+    @Param({"128", "512", "1024"})
+    public int nodes;
+
+    private CsrGraph snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        snapshot = CsrGraph.from(GeneratedGraphs.random(nodes, nodes * 8, true));
+    }
+
+    @Benchmark
+    public AllPairsShortestPaths floydWarshall() {
+        return FloydWarshall.run(snapshot);
+    }
+}
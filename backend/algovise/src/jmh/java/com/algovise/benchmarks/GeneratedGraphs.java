@@ -0,0 +1,65 @@
+package com.algovise.benchmarks;
+
+import com.algovise.entities.Edge;
+import com.algovise.entities.Graph;
+import com.algovise.entities.Node;
+
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible random graphs for the benchmarks. Every node lies on a path 0 -> 1 -> ... so the whole
+ * graph is reachable from node 0; the remaining edges are random with weights in {@code [1, 100)}.
+ */
+final class GeneratedGraphs {
+
+    private static final long SEED = 42L;
+
+    private GeneratedGraphs() {
+    }
+
+    /**
+     * Node count used for a graph of {@code edgeCount} edges: an average out-degree of eight.
+     */
+    static int nodesFor(final int edgeCount) {
+        return Math.max(2, edgeCount / 8);
+    }
+
+    static Graph random(final int nodeCount, final int edgeCount, final boolean directed) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Graph graph = new Graph();
+        graph.setId(1L);
+        graph.setName("benchmark");
+        graph.setDirected(directed);
+        graph.setWeighted(true);
+
+        Node[] nodes = new Node[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            Node node = new Node();
+            node.setId(i + 1L);
+            node.setLabel("n" + i);
+            node.setGraph(graph);
+            nodes[i] = node;
+            graph.getNodes().add(node);
+        }
+
+        for (int e = 0; e < edgeCount; e++) {
+            Node source;
+            Node target;
+            if (e < nodeCount - 1) {
+                source = nodes[e];
+                target = nodes[e + 1];
+            } else {
+                source = nodes[random.nextInt(nodeCount)];
+                target = nodes[random.nextInt(nodeCount)];
+            }
+            Edge edge = new Edge();
+            edge.setId(e + 1L);
+            edge.setSource(source);
+            edge.setTarget(target);
+            edge.setWeight(1.0 + random.nextInt(99));
+            edge.setGraph(graph);
+            graph.getEdges().add(edge);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,116 @@
+package com.algovise.benchmarks;
+
+import com.algovise.algorithms.AStar;
+import com.algovise.algorithms.BellmanFord;
+import com.algovise.algorithms.Boruvka;
+import com.algovise.algorithms.BreadthFirstSearch;
+import com.algovise.algorithms.CsrGraph;
+import com.algovise.algorithms.DepthFirstSearch;
+import com.algovise.algorithms.Dijkstra;
+import com.algovise.algorithms.Kruskal;
+import com.algovise.algorithms.Landmarks;
+import com.algovise.algorithms.Prim;
+import com.algovise.algorithms.ShortestPathTree;
+import com.algovise.algorithms.SpanningForest;
+import com.algovise.entities.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot construction and the single-source and spanning tree algorithms on generated graphs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphAlgorithmBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int edges;
+
+    @Param({"true", "false"})
+    public boolean directed;
+
+    private Graph graph;
+    private CsrGraph snapshot;
+    private Landmarks landmarks;
+    private int target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int nodes = GeneratedGraphs.nodesFor(edges);
+        graph = GeneratedGraphs.random(nodes, edges, directed);
+        snapshot = CsrGraph.from(graph);
+        target = nodes - 1;
+        landmarks = Landmarks.select(snapshot, 16);
+    }
+
+    @Benchmark
+    public CsrGraph snapshot() {
+        return CsrGraph.from(graph);
+    }
+
+    @Benchmark
+    public ShortestPathTree dijkstra() {
+        return Dijkstra.run(snapshot, 0);
+    }
+
+    @Benchmark
+    public ShortestPathTree dijkstraToTarget() {
+        return Dijkstra.run(snapshot, 0, target);
+    }
+
+    @Benchmark
+    public ShortestPathTree aStar() {
+        return AStar.run(snapshot, 0, target, AStar.NONE);
+    }
+
+    @Benchmark
+    public ShortestPathTree aStarLandmarks() {
+        return AStar.run(snapshot, 0, target, landmarks.toward(target));
+    }
+
+    @Benchmark
+    public ShortestPathTree bellmanFord() {
+        return BellmanFord.run(snapshot, 0);
+    }
+
+    @Benchmark
+    public int[] breadthFirstSearch() {
+        return BreadthFirstSearch.order(snapshot, 0);
+    }
+
+    @Benchmark
+    public int[] depthFirstSearch() {
+        return DepthFirstSearch.order(snapshot, 0);
+    }
+
+    @Benchmark
+    public SpanningForest kruskal() {
+        return Kruskal.run(snapshot);
+    }
+
+    @Benchmark
+    public SpanningForest boruvka() {
+        return Boruvka.run(snapshot);
+    }
+
+    @Benchmark
+    public SpanningForest prim() {
+        return Prim.run(snapshot);
+    }
+}
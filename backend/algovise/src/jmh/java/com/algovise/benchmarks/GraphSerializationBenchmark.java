@@ -0,0 +1,54 @@
+package com.algovise.benchmarks;
+
+import com.algovise.entities.Graph;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a {@link Graph} entity as returned by the graph endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphSerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int edges;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Graph graph;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        graph = GeneratedGraphs.random(GeneratedGraphs.nodesFor(edges), edges, true);
+        json = objectMapper.writeValueAsBytes(graph);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(graph);
+    }
+
+    @Benchmark
+    public Object deserializeTree() throws Exception {
+        return objectMapper.readTree(json);
+    }
+}
@@ -0,0 +1,153 @@
+package com.algovise.benchmarks;
+
+import com.algovise.configs.UserAuthenticationProvider;
+import com.algovise.dtos.EdgeDto;
+import com.algovise.dtos.GraphContentsDto;
+import com.algovise.dtos.GraphSyncResultDto;
+import com.algovise.dtos.NodeDto;
+import com.algovise.entities.Edge;
+import com.algovise.entities.Graph;
+import com.algovise.entities.Node;
+import com.algovise.entities.User;
+import com.algovise.repositories.EdgeRepository;
+import com.algovise.repositories.GraphRepository;
+import com.algovise.repositories.NodeRepository;
+import com.algovise.repositories.UserRepository;
+import com.algovise.services.GraphService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * The save path of the graph editor: {@link GraphService#replaceContents} diffing a full edit against the
+ * stored graph, and {@link GraphService#replaceEdges}. Repositories are in-memory mocks, so the numbers
+ * cover the service's own work per save rather than the database round trips. Each save keeps all but 1%
+ * of the stored edges and, for {@code replaceContents}, adds 1% new nodes and edges.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphSyncBenchmark {
+
+    private static final String TOKEN = "token";
+
+    @Param({"1000", "100000"})
+    public int edges;
+
+    private GraphService graphService;
+    private Graph graph;
+    private GraphContentsDto contents;
+    private List<EdgeDto> keptEdges;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GeneratedGraphs.random(GeneratedGraphs.nodesFor(edges), edges, true);
+        User user = new User();
+        user.setId(1L);
+        graph.setUser(user);
+
+        List<Node> nodes = graph.getNodes().stream().sorted(Comparator.comparing(Node::getId)).toList();
+        List<Edge> storedEdges = graph.getEdges().stream().sorted(Comparator.comparing(Edge::getId)).toList();
+        Map<Long, Node> nodesById = index(nodes, Node::getId);
+        Map<Long, Edge> edgesById = index(storedEdges, Edge::getId);
+
+        GraphRepository graphRepository = stub(GraphRepository.class);
+        NodeRepository nodeRepository = stub(NodeRepository.class);
+        EdgeRepository edgeRepository = stub(EdgeRepository.class);
+        UserAuthenticationProvider userAuthenticationProvider = stub(UserAuthenticationProvider.class);
+        when(userAuthenticationProvider.getUserIdByToken(TOKEN)).thenReturn(1L);
+        when(graphRepository.findForUpdateById(graph.getId())).thenReturn(Optional.of(graph));
+        when(nodeRepository.findIdsByGraphId(graph.getId())).thenReturn(List.copyOf(nodesById.keySet()));
+        when(edgeRepository.findIdsByGraphId(graph.getId())).thenReturn(List.copyOf(edgesById.keySet()));
+        when(nodeRepository.findByGraphIdAndIdIn(eq(graph.getId()), anyCollection()))
+                .thenAnswer(invocation -> lookUp(nodesById, invocation.getArgument(1)));
+        when(edgeRepository.findByGraphIdAndIdIn(eq(graph.getId()), anyCollection()))
+                .thenAnswer(invocation -> lookUp(edgesById, invocation.getArgument(1)));
+        when(nodeRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(edgeRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        graphService = new GraphService(graphRepository, nodeRepository, edgeRepository,
+                userAuthenticationProvider, stub(UserRepository.class));
+
+        int changed = Math.max(1, edges / 100);
+        keptEdges = new ArrayList<>(storedEdges.size());
+        for (Edge edge : storedEdges.subList(0, storedEdges.size() - changed)) {
+            keptEdges.add(new EdgeDto(edge.getId(), edge.getSource().getId(), edge.getTarget().getId(), edge.getWeight()));
+        }
+
+        List<NodeDto> nodeDtos = new ArrayList<>(nodes.size() + changed);
+        for (Node node : nodes) {
+            nodeDtos.add(new NodeDto(node.getId(), node.getLabel(), (double) node.getId(), 0.0));
+        }
+        List<EdgeDto> edgeDtos = new ArrayList<>(keptEdges);
+        for (int i = 1; i <= changed; i++) {
+            nodeDtos.add(new NodeDto(-(long) i, "new" + i, 0.0, (double) i));
+            edgeDtos.add(new EdgeDto(-(long) i, -(long) i, nodes.get(i % nodes.size()).getId(), 1.0));
+        }
+        contents = new GraphContentsDto(null, nodeDtos, edgeDtos);
+    }
+
+    @Benchmark
+    public GraphSyncResultDto replaceContents() throws IllegalAccessException {
+        return graphService.replaceContents(graph.getId(), contents, TOKEN);
+    }
+
+    @Benchmark
+    public List<Edge> replaceEdges() throws IllegalAccessException {
+        return graphService.replaceEdges(graph.getId(), keptEdges, TOKEN);
+    }
+
+    /**
+     * Stub-only mocks do not record invocations, which would otherwise retain every submitted list.
+     */
+    private static <T> T stub(final Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private static <T> Map<Long, T> index(final List<T> elements, final Function<T, Long> id) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T element : elements) {
+            byId.put(id.apply(element), element);
+        }
+        return byId;
+    }
+
+    private static <T> List<T> lookUp(final Map<Long, T> byId, final Collection<Long> ids) {
+        List<T> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T element = byId.get(id);
+            if (element != null) {
+                found.add(element);
+            }
+        }
+        return found;
+    }
+}
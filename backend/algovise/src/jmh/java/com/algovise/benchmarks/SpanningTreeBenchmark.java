@@ -0,0 +1,77 @@
+package com.algovise.benchmarks;
+
+import com.algovise.algorithms.Boruvka;
+import com.algovise.algorithms.CsrGraph;
+import com.algovise.algorithms.Kruskal;
+import com.algovise.algorithms.Prim;
+import com.algovise.algorithms.SpanningForest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spanning tree algorithms on complete weighted graphs, the shape generated for classroom exercises.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpanningTreeBenchmark {
+
+    @Param({"100", "1000", "3000"})
+    public int nodes;
+
+    private CsrGraph complete;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        long[] nodeIds = new long[nodes];
+        for (int i = 0; i < nodes; i++) {
+            nodeIds[i] = i + 1;
+        }
+        int edges = nodes * (nodes - 1) / 2;
+        int[] sources = new int[edges];
+        int[] targets = new int[edges];
+        double[] weights = new double[edges];
+        int e = 0;
+        for (int u = 0; u < nodes; u++) {
+            for (int v = u + 1; v < nodes; v++) {
+                sources[e] = u;
+                targets[e] = v;
+                weights[e] = 1 + random.nextInt(100);
+                e++;
+            }
+        }
+        complete = CsrGraph.of(nodeIds, sources, targets, weights, false);
+    }
+
+    @Benchmark
+    public SpanningForest prim() {
+        return Prim.run(complete);
+    }
+
+    @Benchmark
+    public SpanningForest kruskal() {
+        return Kruskal.run(complete);
+    }
+
+    @Benchmark
+    public SpanningForest boruvka() {
+        return Boruvka.run(complete);
+    }
+}
@@ -0,0 +1,70 @@
+package com.algovise.benchmarks;
+
+import com.algovise.configs.UserAuthenticationProvider;
+import com.algovise.dtos.UserDto;
+import com.algovise.services.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token handling on the request path, with an in-memory {@link UserService} so only the provider is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenBenchmark {
+
+    private UserAuthenticationProvider provider;
+    private String token;
+    private long nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserDto user = UserDto.builder().id(1L).name("benchmark").role("USER").build();
+        UserService userService = new UserService(null, null, null, null) {
+            @Override
+            public UserDto findByName(final String name) {
+                return UserDto.builder().id(user.getId()).name(name).role(user.getRole()).build();
+            }
+        };
+        provider = new UserAuthenticationProvider(userService);
+        ReflectionTestUtils.setField(provider, "secretKey", "benchmark-secret");
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        token = provider.createToken(user.getName());
+    }
+
+    @Benchmark
+    public Authentication validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getUserIdByToken() {
+        return provider.getUserIdByToken(token);
+    }
+
+    /**
+     * A token seen for the first time: signing plus a full verification. Each call uses another subject
+     * so the token is never already verified.
+     */
+    @Benchmark
+    public Authentication createAndValidateToken() {
+        return provider.validateToken(provider.createToken("benchmark-" + nextUser++));
+    }
+}
@@ -0,0 +1,70 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+
+public final class AStar {
+
+    /**
+     * Lower bound on the remaining distance from a node to the target. It must never overestimate,
+     * otherwise the returned path is not guaranteed to be the shortest one.
+     */
+    @FunctionalInterface
+    public interface Heuristic {
+        double estimate(int node);
+    }
+
+    public static final Heuristic NONE = node -> 0.0;
+
+    private AStar() {
+    }
+
+    /**
+     * Straight-line distance to {@code target} scaled so that it never exceeds the weight of an edge, which keeps
+     * it admissible whatever the weights are. Without coordinates on every node this is {@link #NONE}.
+     */
+    public static Heuristic euclidean(final CsrGraph graph, final int target) {
+        final double scale = graph.coordinateScale;
+        if (scale <= 0.0) {
+            return NONE;
+        }
+        return node -> scale * graph.distance(node, target);
+    }
+
+    public static ShortestPathTree run(final CsrGraph graph, final int source, final int target, final Heuristic heuristic) {
+        final int n = graph.nodeCount();
+        final double[] distances = new double[n];
+        final int[] parents = new int[n];
+        final int[] parentArcs = new int[n];
+        final boolean[] closed = new boolean[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(parents, -1);
+        Arrays.fill(parentArcs, -1);
+
+        final MinHeap open = new MinHeap(n);
+        distances[source] = 0.0;
+        open.push(heuristic.estimate(source), source);
+        while (!open.isEmpty()) {
+            final int u = open.pop();
+            if (closed[u]) {
+                continue;
+            }
+            closed[u] = true;
+            if (u == target) {
+                break;
+            }
+            final double du = distances[u];
+            for (int arc = graph.offsets[u]; arc < graph.offsets[u + 1]; arc++) {
+                final int v = graph.targets[arc];
+                final double candidate = du + graph.weights[arc];
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    parents[v] = u;
+                    parentArcs[v] = arc;
+                    closed[v] = false;
+                    open.push(candidate + heuristic.estimate(v), v);
+                }
+            }
+        }
+        return new ShortestPathTree(graph, source, distances, parents, parentArcs);
+    }
+}
@@ -0,0 +1,140 @@
+package com.algovise.algorithms;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A traced run over a snapshot, written as newline-delimited JSON. Frames are produced while the
+ * algorithm advances, so the response is flushed after the first step and then every few steps
+ * instead of after the whole run. Each frame is a delta ({@code push}, {@code pop}, {@code visit},
+ * {@code relax}) tagged with its step number and persisted node/edge ids, framed by a {@code start}
+ * and an {@code end} frame.
+ */
+public final class AlgorithmTrace {
+
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactoryBuilder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .rootValueSeparator((String) null)
+            .build();
+    private static final int FLUSH_INTERVAL_STEPS = 64;
+
+    private final CsrGraph graph;
+    private final TraceAlgorithm algorithm;
+    private final int source;
+
+    public AlgorithmTrace(final CsrGraph graph, final TraceAlgorithm algorithm, final int source) {
+        this.graph = graph;
+        this.algorithm = algorithm;
+        this.source = source;
+    }
+
+    public void writeTo(final OutputStream out) throws IOException {
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("type", "start");
+            json.writeStringField("algorithm", algorithm.getParameter());
+            json.writeNumberField("source", graph.nodeId(source));
+            json.writeNumberField("nodes", graph.nodeCount());
+            json.writeNumberField("edges", graph.edgeCount());
+            json.writeEndObject();
+            json.writeRaw('\n');
+            json.flush();
+
+            final FrameWriter frames = new FrameWriter(json);
+            final StepTracer tracer = algorithm.tracer(graph, source);
+            try {
+                while (tracer.step(frames)) {
+                    frames.step++;
+                    if (frames.step == 1 || frames.step % FLUSH_INTERVAL_STEPS == 0) {
+                        json.flush();
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            json.writeStartObject();
+            json.writeStringField("type", "end");
+            json.writeNumberField("steps", frames.step);
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+    }
+
+    private final class FrameWriter implements TraceListener {
+
+        private final JsonGenerator json;
+        private int step;
+
+        private FrameWriter(final JsonGenerator json) {
+            this.json = json;
+        }
+
+        @Override
+        public void push(final int node, final double priority) {
+            try {
+                begin("push");
+                json.writeNumberField("node", graph.nodeId(node));
+                json.writeNumberField("priority", priority);
+                end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void pop(final int node) {
+            try {
+                begin("pop");
+                json.writeNumberField("node", graph.nodeId(node));
+                end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void visit(final int node, final double distance) {
+            try {
+                begin("visit");
+                json.writeNumberField("node", graph.nodeId(node));
+                json.writeNumberField("distance", distance);
+                end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void relax(final int arc, final int node, final double distance) {
+            try {
+                begin("relax");
+                json.writeNumberField("edge", graph.edgeIds[graph.arcEdges[arc]]);
+                json.writeNumberField("node", graph.nodeId(node));
+                json.writeNumberField("distance", distance);
+                end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void begin(final String type) throws IOException {
+            json.writeStartObject();
+            json.writeNumberField("step", step + 1);
+            json.writeStringField("type", type);
+        }
+
+        private void end() throws IOException {
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.algovise.algorithms;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The distance matrix of an all-pairs result, written as {@code {"nodeIds": [...], "distances": [[...], ...]}}
+ * straight from the primitive matrix, so no per-cell objects are created for the response.
+ * {@code distances[i][j]} is the distance from {@code nodeIds[i]} to {@code nodeIds[j]}, or null when there is no path.
+ */
+public final class AllPairsMatrix {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactoryBuilder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final CsrGraph graph;
+    private final AllPairsShortestPaths paths;
+
+    public AllPairsMatrix(final CsrGraph graph, final AllPairsShortestPaths paths) {
+        this.graph = graph;
+        this.paths = paths;
+    }
+
+    public void writeTo(final OutputStream out) throws IOException {
+        final int n = graph.nodeCount();
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("nodeIds");
+            for (int node = 0; node < n; node++) {
+                json.writeNumber(graph.nodeId(node));
+            }
+            json.writeEndArray();
+            json.writeArrayFieldStart("distances");
+            for (int from = 0; from < n; from++) {
+                json.writeStartArray();
+                for (int to = 0; to < n; to++) {
+                    final double distance = paths.distance(from, to);
+                    if (distance == Double.POSITIVE_INFINITY) {
+                        json.writeNull();
+                    } else {
+                        json.writeNumber(distance);
+                    }
+                }
+                json.writeEndArray();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+}
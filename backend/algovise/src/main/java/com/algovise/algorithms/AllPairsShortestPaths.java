@@ -0,0 +1,51 @@
+package com.algovise.algorithms;
+
+/**
+ * Row-major {@code nodeCount x nodeCount} distance matrix with a successor matrix for path reconstruction:
+ * {@code next[i * n + j]} is the node that follows {@code i} on a shortest path to {@code j}, or {@code -1}.
+ */
+public final class AllPairsShortestPaths {
+
+    private final int nodeCount;
+    private final double[] distances;
+    private final int[] next;
+    private final boolean negativeCycle;
+
+    AllPairsShortestPaths(final int nodeCount, final double[] distances, final int[] next, final boolean negativeCycle) {
+        this.nodeCount = nodeCount;
+        this.distances = distances;
+        this.next = next;
+        this.negativeCycle = negativeCycle;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public boolean hasNegativeCycle() {
+        return negativeCycle;
+    }
+
+    public double distance(final int from, final int to) {
+        return distances[from * nodeCount + to];
+    }
+
+    /**
+     * Dense node indices from {@code from} to {@code to}, or an empty array when there is no path.
+     */
+    public int[] path(final int from, final int to) {
+        if (negativeCycle || next[from * nodeCount + to] < 0) {
+            return from == to ? new int[]{from} : new int[0];
+        }
+        int length = 1;
+        for (int u = from; u != to; u = next[u * nodeCount + to]) {
+            length++;
+        }
+        final int[] path = new int[length];
+        path[0] = from;
+        for (int i = 1; i < length; i++) {
+            path[i] = next[path[i - 1] * nodeCount + to];
+        }
+        return path;
+    }
+}
@@ -0,0 +1,91 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+
+public final class BellmanFord {
+
+    private BellmanFord() {
+    }
+
+    /**
+     * Queue-based Bellman-Ford (SPFA): only nodes whose distance just improved are rescanned, in FIFO order, so the
+     * search stops as soon as nothing changes instead of sweeping every arc {@code nodeCount - 1} times.
+     * Negative weights are allowed. A shortest path never needs {@code nodeCount} arcs, so once a distance would,
+     * the parent pointers are walked and the negative cycle they close is reported on the result.
+     */
+    public static ShortestPathTree run(final CsrGraph graph, final int source) {
+        final int n = graph.nodeCount();
+        final double[] distances = new double[n];
+        final int[] parents = new int[n];
+        final int[] parentArcs = new int[n];
+        final int[] arcCounts = new int[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(parents, -1);
+        Arrays.fill(parentArcs, -1);
+
+        // every node is queued at most once at a time, so a ring of n slots never overflows
+        final int[] queue = new int[n];
+        final long[] queued = new long[(n + 63) >>> 6];
+        int head = 0;
+        int size = 1;
+        queue[0] = source;
+        queued[source >>> 6] |= 1L << source;
+        distances[source] = 0.0;
+
+        while (size > 0) {
+            final int u = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+            queued[u >>> 6] &= ~(1L << u);
+
+            final double du = distances[u];
+            for (int arc = graph.offsets[u]; arc < graph.offsets[u + 1]; arc++) {
+                final int v = graph.targets[arc];
+                final double candidate = du + graph.weights[arc];
+                if (candidate >= distances[v]) {
+                    continue;
+                }
+                distances[v] = candidate;
+                parents[v] = u;
+                parentArcs[v] = arc;
+                arcCounts[v] = arcCounts[u] + 1;
+                if (arcCounts[v] >= n) {
+                    final int[] cycle = findCycle(parents, v);
+                    if (cycle.length > 0) {
+                        return new ShortestPathTree(graph, source, distances, parents, parentArcs, cycle);
+                    }
+                }
+                if ((queued[v >>> 6] & (1L << v)) == 0) {
+                    queued[v >>> 6] |= 1L << v;
+                    final int tail = head + size;
+                    queue[tail >= n ? tail - n : tail] = v;
+                    size++;
+                }
+            }
+        }
+        return new ShortestPathTree(graph, source, distances, parents, parentArcs);
+    }
+
+    /**
+     * Follows parent pointers from {@code start} and returns the cycle the walk runs into, in arc order, or an
+     * empty array when it reaches the source first. Any cycle among the parent pointers has negative weight.
+     */
+    private static int[] findCycle(final int[] parents, final int start) {
+        final int[] stepOf = new int[parents.length];
+        Arrays.fill(stepOf, -1);
+        int steps = 0;
+        int v = start;
+        while (v >= 0 && stepOf[v] < 0) {
+            stepOf[v] = steps++;
+            v = parents[v];
+        }
+        if (v < 0) {
+            return new int[0];
+        }
+        final int[] cycle = new int[steps - stepOf[v]];
+        for (int i = cycle.length - 1, u = v; i >= 0; i--, u = parents[u]) {
+            cycle[i] = u;
+        }
+        return cycle;
+    }
+}
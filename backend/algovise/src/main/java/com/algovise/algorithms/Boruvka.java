@@ -0,0 +1,95 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+public final class Boruvka {
+
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    private Boruvka() {
+    }
+
+    public static SpanningForest run(final CsrGraph graph) {
+        return run(graph, graph.edgeCount() >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Minimum spanning forest ignoring edge direction. Every round each component picks its cheapest outgoing edge
+     * and all picks are merged, so at least half of the components disappear per round. Picking scans the edges
+     * still crossing components, in parallel when asked, against a flat component label per node. Ties are broken
+     * by edge index, which keeps the picks of one round free of cycles.
+     */
+    static SpanningForest run(final CsrGraph graph, final boolean parallel) {
+        final int n = graph.nodeCount();
+        final int[] sources = graph.edgeSources;
+        final int[] targets = graph.edgeTargets;
+        final double[] weights = graph.edgeWeights;
+        final DisjointSet components = new DisjointSet(n);
+        final int[] component = new int[n];
+        for (int v = 0; v < n; v++) {
+            component[v] = v;
+        }
+        final AtomicIntegerArray cheapest = new AtomicIntegerArray(n);
+        final int[] chosen = new int[Math.max(n - 1, 0)];
+        int chosenCount = 0;
+        double totalWeight = 0.0;
+
+        int[] active = new int[graph.edgeCount()];
+        int activeCount = 0;
+        for (int e = 0; e < active.length; e++) {
+            if (sources[e] != targets[e]) {
+                active[activeCount++] = e;
+            }
+        }
+
+        while (activeCount > 0) {
+            for (int c = 0; c < n; c++) {
+                cheapest.set(c, -1);
+            }
+            final int[] edges = active;
+            final IntStream scan = IntStream.range(0, activeCount);
+            (parallel ? scan.parallel() : scan).forEach(i -> {
+                final int e = edges[i];
+                offer(cheapest, component[sources[e]], e, weights);
+                offer(cheapest, component[targets[e]], e, weights);
+            });
+
+            for (int c = 0; c < n; c++) {
+                final int e = cheapest.get(c);
+                if (e >= 0 && components.union(sources[e], targets[e])) {
+                    chosen[chosenCount++] = e;
+                    totalWeight += weights[e];
+                }
+            }
+
+            for (int v = 0; v < n; v++) {
+                component[v] = components.find(v);
+            }
+            int kept = 0;
+            for (int i = 0; i < activeCount; i++) {
+                final int e = active[i];
+                if (component[sources[e]] != component[targets[e]]) {
+                    active[kept++] = e;
+                }
+            }
+            activeCount = kept;
+        }
+        return new SpanningForest(graph, Arrays.copyOf(chosen, chosenCount), totalWeight);
+    }
+
+    private static void offer(final AtomicIntegerArray cheapest, final int component, final int edge, final double[] weights) {
+        int current = cheapest.get(component);
+        while (current < 0 || lighter(edge, current, weights)) {
+            if (cheapest.compareAndSet(component, current, edge)) {
+                return;
+            }
+            current = cheapest.get(component);
+        }
+    }
+
+    private static boolean lighter(final int a, final int b, final double[] weights) {
+        return weights[a] < weights[b] || weights[a] == weights[b] && a < b;
+    }
+}
@@ -0,0 +1,81 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+
+public final class BreadthFirstSearch {
+
+    private BreadthFirstSearch() {
+    }
+
+    /**
+     * Nodes reachable from {@code source} in the order they are dequeued.
+     */
+    public static int[] order(final CsrGraph graph, final int source) {
+        final int[] queue = new int[graph.nodeCount()];
+        final boolean[] visited = new boolean[graph.nodeCount()];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = source;
+        visited[source] = true;
+        while (head < tail) {
+            final int u = queue[head++];
+            for (int arc = graph.offsets[u]; arc < graph.offsets[u + 1]; arc++) {
+                final int v = graph.targets[arc];
+                if (!visited[v]) {
+                    visited[v] = true;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return Arrays.copyOf(queue, tail);
+    }
+
+    /**
+     * Lazy trace of the same traversal; the visit distance is the BFS level of the node.
+     */
+    public static StepTracer tracer(final CsrGraph graph, final int source) {
+        return new Tracer(graph, source);
+    }
+
+    private static final class Tracer implements StepTracer {
+
+        private final CsrGraph graph;
+        private final int[] queue;
+        private final int[] levels;
+        private int head;
+        private int tail;
+
+        private Tracer(final CsrGraph graph, final int source) {
+            this.graph = graph;
+            queue = new int[graph.nodeCount()];
+            levels = new int[graph.nodeCount()];
+            Arrays.fill(levels, -1);
+            queue[tail++] = source;
+            levels[source] = 0;
+        }
+
+        @Override
+        public boolean step(final TraceListener listener) {
+            if (head == tail) {
+                return false;
+            }
+            if (head == 0) {
+                listener.push(queue[0], 0.0);
+            }
+            final int u = queue[head++];
+            listener.pop(u);
+            listener.visit(u, levels[u]);
+            for (int arc = graph.offsets[u]; arc < graph.offsets[u + 1]; arc++) {
+                final int v = graph.targets[arc];
+                if (levels[v] < 0) {
+                    levels[v] = levels[u] + 1;
+                    queue[tail++] = v;
+                    listener.relax(arc, v, levels[v]);
+                    listener.push(v, levels[v]);
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.algovise.algorithms;
+
+import com.algovise.entities.Edge;
+import com.algovise.entities.Graph;
+import com.algovise.entities.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable compressed-sparse-row snapshot of a {@link Graph}.
+ * Nodes are addressed by dense indices ({@code 0..nodeCount-1}) ordered by {@code Node.id};
+ * the outgoing arcs of node {@code u} are {@code offsets[u] .. offsets[u + 1] - 1}.
+ * Undirected edges are stored as two arcs that share the same edge index.
+ * Node coordinates are only kept when every node has them.
+ */
+public final class CsrGraph {
+
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    final long[] nodeIds;
+    final int[] offsets;
+    final int[] targets;
+    final double[] weights;
+    final int[] arcEdges;
+
+    final int[] edgeSources;
+    final int[] edgeTargets;
+    final double[] edgeWeights;
+    final long[] edgeIds;
+
+    final boolean directed;
+
+    final double[] xs;
+    final double[] ys;
+
+    /**
+     * Largest factor by which the straight-line distance between two nodes can be scaled without exceeding
+     * the weight of any edge, or {@code 0} when there are no usable coordinates.
+     */
+    final double coordinateScale;
+    final boolean negativeWeights;
+
+    private CsrGraph(final long[] nodeIds, final int[] edgeSources, final int[] edgeTargets,
+                     final double[] edgeWeights, final long[] edgeIds, final boolean directed,
+                     final double[] xs, final double[] ys) {
+        this.nodeIds = nodeIds;
+        this.edgeSources = edgeSources;
+        this.edgeTargets = edgeTargets;
+        this.edgeWeights = edgeWeights;
+        this.edgeIds = edgeIds;
+        this.directed = directed;
+        this.xs = xs;
+        this.ys = ys;
+
+        final int n = nodeIds.length;
+        final int m = edgeSources.length;
+        final int arcCount = directed ? m : 2 * m;
+
+        offsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            offsets[edgeSources[e] + 1]++;
+            if (!directed) {
+                offsets[edgeTargets[e] + 1]++;
+            }
+        }
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        targets = new int[arcCount];
+        weights = new double[arcCount];
+        arcEdges = new int[arcCount];
+        final int[] cursor = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < m; e++) {
+            int arc = cursor[edgeSources[e]]++;
+            targets[arc] = edgeTargets[e];
+            weights[arc] = edgeWeights[e];
+            arcEdges[arc] = e;
+            if (!directed) {
+                arc = cursor[edgeTargets[e]]++;
+                targets[arc] = edgeSources[e];
+                weights[arc] = edgeWeights[e];
+                arcEdges[arc] = e;
+            }
+        }
+
+        boolean negative = false;
+        double scale = xs != null ? Double.POSITIVE_INFINITY : 0.0;
+        for (int e = 0; e < m; e++) {
+            negative |= edgeWeights[e] < 0.0;
+            if (xs != null) {
+                final double length = distance(edgeSources[e], edgeTargets[e]);
+                if (length > 0.0) {
+                    scale = Math.min(scale, edgeWeights[e] / length);
+                }
+            }
+        }
+        negativeWeights = negative;
+        coordinateScale = negative || scale == Double.POSITIVE_INFINITY ? 0.0 : scale;
+    }
+
+    public static CsrGraph from(final Graph graph) {
+        final List<Node> nodes = new ArrayList<>(graph.getNodes().size());
+        for (Node node : graph.getNodes()) {
+            if (node.getId() != null) {
+                nodes.add(node);
+            }
+        }
+        nodes.sort(Comparator.comparing(Node::getId));
+
+        final int n = nodes.size();
+        final long[] nodeIds = new long[n];
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int u = 0; u < n; u++) {
+            final Node node = nodes.get(u);
+            nodeIds[u] = node.getId();
+            if (xs != null && node.getX() != null && node.getY() != null) {
+                xs[u] = node.getX();
+                ys[u] = node.getY();
+            } else {
+                xs = null;
+                ys = null;
+            }
+        }
+
+        final int capacity = graph.getEdges().size();
+        final int[] sources = new int[capacity];
+        final int[] targets = new int[capacity];
+        final double[] weights = new double[capacity];
+        final long[] edgeIds = new long[capacity];
+        int m = 0;
+        for (Edge edge : graph.getEdges()) {
+            final int source = indexOf(nodeIds, edge.getSourceId());
+            final int target = indexOf(nodeIds, edge.getTargetId());
+            if (source < 0 || target < 0) {
+                continue;
+            }
+            sources[m] = source;
+            targets[m] = target;
+            weights[m] = graph.isWeighted() && edge.getWeight() != null ? edge.getWeight() : DEFAULT_WEIGHT;
+            edgeIds[m] = edge.getId() != null ? edge.getId() : -1L;
+            m++;
+        }
+
+        return new CsrGraph(nodeIds, Arrays.copyOf(sources, m), Arrays.copyOf(targets, m),
+                Arrays.copyOf(weights, m), Arrays.copyOf(edgeIds, m), graph.isDirected(), xs, ys);
+    }
+
+    /**
+     * Builds a snapshot straight from primitive edge arrays; edge ids are the positions in the arrays.
+     * {@code nodeIds} must be sorted ascending and {@code sources}/{@code targets} hold dense indices.
+     */
+    public static CsrGraph of(final long[] nodeIds, final int[] sources, final int[] targets,
+                              final double[] weights, final boolean directed) {
+        final long[] edgeIds = new long[sources.length];
+        for (int e = 0; e < edgeIds.length; e++) {
+            edgeIds[e] = e;
+        }
+        return new CsrGraph(nodeIds.clone(), sources.clone(), targets.clone(), weights.clone(), edgeIds, directed, null, null);
+    }
+
+    /**
+     * The same snapshot with node coordinates, indexed like the nodes.
+     */
+    public CsrGraph withCoordinates(final double[] xs, final double[] ys) {
+        if (xs.length != nodeCount() || ys.length != nodeCount()) {
+            throw new IllegalArgumentException("Expected " + nodeCount() + " coordinates per axis");
+        }
+        return new CsrGraph(nodeIds, edgeSources, edgeTargets, edgeWeights, edgeIds, directed, xs.clone(), ys.clone());
+    }
+
+    /**
+     * The same edges with every edge traversable in both directions, as used by the spanning tree algorithms.
+     */
+    public CsrGraph undirected() {
+        if (!directed) {
+            return this;
+        }
+        return new CsrGraph(nodeIds, edgeSources, edgeTargets, edgeWeights, edgeIds, false, xs, ys);
+    }
+
+    /**
+     * The same edges pointing the other way, so a single-source search on it computes distances to the source.
+     */
+    CsrGraph reversed() {
+        if (!directed) {
+            return this;
+        }
+        return new CsrGraph(nodeIds, edgeTargets, edgeSources, edgeWeights, edgeIds, true, xs, ys);
+    }
+
+    public int nodeCount() {
+        return nodeIds.length;
+    }
+
+    public int edgeCount() {
+        return edgeSources.length;
+    }
+
+    public int arcCount() {
+        return targets.length;
+    }
+
+    public boolean isDirected() {
+        return directed;
+    }
+
+    public boolean hasCoordinates() {
+        return xs != null;
+    }
+
+    public boolean hasNegativeWeights() {
+        return negativeWeights;
+    }
+
+    /**
+     * Straight-line distance between two nodes; only meaningful when {@link #hasCoordinates()}.
+     */
+    double distance(final int u, final int v) {
+        final double dx = xs[u] - xs[v];
+        final double dy = ys[u] - ys[v];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    public long nodeId(final int index) {
+        return nodeIds[index];
+    }
+
+    public long edgeId(final int edge) {
+        return edgeIds[edge];
+    }
+
+    /**
+     * Dense index of the node with the given id, or {@code -1} when the node is not part of the graph.
+     */
+    public int indexOf(final Long nodeId) {
+        return indexOf(nodeIds, nodeId);
+    }
+
+    private static int indexOf(final long[] sortedIds, final Long nodeId) {
+        if (nodeId == null) {
+            return -1;
+        }
+        final int index = Arrays.binarySearch(sortedIds, nodeId);
+        return index >= 0 ? index : -1;
+    }
+}
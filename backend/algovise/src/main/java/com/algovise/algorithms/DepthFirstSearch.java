@@ -0,0 +1,110 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+
+public final class DepthFirstSearch {
+
+    private DepthFirstSearch() {
+    }
+
+    /**
+     * Nodes reachable from {@code source} in pre-order, identical to the recursive traversal
+     * but driven by an explicit stack so deep graphs cannot overflow the thread stack.
+     */
+    public static int[] order(final CsrGraph graph, final int source) {
+        final int n = graph.nodeCount();
+        final int[] order = new int[n];
+        final boolean[] visited = new boolean[n];
+        final int[] stack = new int[n];
+        final int[] nextArc = new int[n];
+        int visitedCount = 0;
+        int depth = 0;
+
+        visited[source] = true;
+        order[visitedCount++] = source;
+        stack[depth] = source;
+        nextArc[depth] = graph.offsets[source];
+        depth++;
+        while (depth > 0) {
+            final int u = stack[depth - 1];
+            final int arc = nextArc[depth - 1];
+            if (arc == graph.offsets[u + 1]) {
+                depth--;
+                continue;
+            }
+            nextArc[depth - 1]++;
+            final int v = graph.targets[arc];
+            if (!visited[v]) {
+                visited[v] = true;
+                order[visitedCount++] = v;
+                stack[depth] = v;
+                nextArc[depth] = graph.offsets[v];
+                depth++;
+            }
+        }
+        return Arrays.copyOf(order, visitedCount);
+    }
+
+    /**
+     * Lazy trace of the same traversal. Every step either descends along one arc to a new node
+     * or backtracks from an exhausted one; the visit distance is the depth of the node on the stack.
+     */
+    public static StepTracer tracer(final CsrGraph graph, final int source) {
+        return new Tracer(graph, source);
+    }
+
+    private static final class Tracer implements StepTracer {
+
+        private final CsrGraph graph;
+        private final int source;
+        private final boolean[] visited;
+        private final int[] stack;
+        private final int[] nextArc;
+        private int depth = -1;
+
+        private Tracer(final CsrGraph graph, final int source) {
+            this.graph = graph;
+            this.source = source;
+            visited = new boolean[graph.nodeCount()];
+            stack = new int[graph.nodeCount()];
+            nextArc = new int[graph.nodeCount()];
+        }
+
+        @Override
+        public boolean step(final TraceListener listener) {
+            if (depth < 0) {
+                if (visited[source]) {
+                    return false;
+                }
+                visited[source] = true;
+                stack[0] = source;
+                nextArc[0] = graph.offsets[source];
+                depth = 1;
+                listener.push(source, 0.0);
+                listener.visit(source, 0.0);
+                return true;
+            }
+            if (depth == 0) {
+                return false;
+            }
+            final int u = stack[depth - 1];
+            while (nextArc[depth - 1] < graph.offsets[u + 1]) {
+                final int arc = nextArc[depth - 1]++;
+                final int v = graph.targets[arc];
+                if (!visited[v]) {
+                    visited[v] = true;
+                    stack[depth] = v;
+                    nextArc[depth] = graph.offsets[v];
+                    listener.relax(arc, v, depth);
+                    listener.push(v, depth);
+                    listener.visit(v, depth);
+                    depth++;
+                    return true;
+                }
+            }
+            depth--;
+            listener.pop(u);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+
+public final class Dijkstra {
+
+    private Dijkstra() {
+    }
+
+    public static ShortestPathTree run(final CsrGraph graph, final int source) {
+        return run(graph, source, -1);
+    }
+
+    /**
+     * Dijkstra over non-negative weights. When {@code target} is a valid node the search stops as soon
+     * as it is settled, so only its distance and path are guaranteed to be final.
+     */
+    public static ShortestPathTree run(final CsrGraph graph, final int source, final int target) {
+        final int n = graph.nodeCount();
+        final double[] distances = new double[n];
+        final int[] parents = new int[n];
+        final int[] parentArcs = new int[n];
+        final boolean[] settled = new boolean[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(parents, -1);
+        Arrays.fill(parentArcs, -1);
+
+        final MinHeap heap = new MinHeap(n);
+        distances[source] = 0.0;
+        heap.push(0.0, source);
+        while (!heap.isEmpty()) {
+            final int u = heap.pop();
+            if (settled[u]) {
+                continue;
+            }
+            settled[u] = true;
+            if (u == target) {
+                break;
+            }
+            final double du = distances[u];
+            for (int arc = graph.offsets[u]; arc < graph.offsets[u + 1]; arc++) {
+                final int v = graph.targets[arc];
+                final double candidate = du + graph.weights[arc];
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    parents[v] = u;
+                    parentArcs[v] = arc;
+                    heap.push(candidate, v);
+                }
+            }
+        }
+        return new ShortestPathTree(graph, source, distances, parents, parentArcs);
+    }
+
+    /**
+     * Lazy trace of a full single-source run; every step settles one node and relaxes its arcs.
+     */
+    public static StepTracer tracer(final CsrGraph graph, final int source) {
+        return new Tracer(graph, source);
+    }
+
+    private static final class Tracer implements StepTracer {
+
+        private final CsrGraph graph;
+        private final double[] distances;
+        private final boolean[] settled;
+        private final MinHeap heap;
+        private boolean started;
+
+        private Tracer(final CsrGraph graph, final int source) {
+            this.graph = graph;
+            distances = new double[graph.nodeCount()];
+            settled = new boolean[graph.nodeCount()];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            distances[source] = 0.0;
+            heap = new MinHeap(graph.nodeCount());
+            heap.push(0.0, source);
+        }
+
+        @Override
+        public boolean step(final TraceListener listener) {
+            if (!started) {
+                started = true;
+                listener.push(heap.peekValue(), 0.0);
+            }
+            int u = -1;
+            while (!heap.isEmpty() && settled[u = heap.pop()]) {
+                u = -1;
+            }
+            if (u < 0) {
+                return false;
+            }
+            settled[u] = true;
+            final double du = distances[u];
+            listener.pop(u);
+            listener.visit(u, du);
+            for (int arc = graph.offsets[u]; arc < graph.offsets[u + 1]; arc++) {
+                final int v = graph.targets[arc];
+                final double candidate = du + graph.weights[arc];
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    heap.push(candidate, v);
+                    listener.relax(arc, v, candidate);
+                    listener.push(v, candidate);
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.algovise.algorithms;
+
+/**
+ * Union-find over {@code int[]} with union by size and path halving.
+ */
+final class DisjointSet {
+
+    private final int[] parent;
+    private final int[] size;
+    private int components;
+
+    DisjointSet(final int count) {
+        parent = new int[count];
+        size = new int[count];
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        components = count;
+    }
+
+    int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Merges the sets of {@code a} and {@code b}; returns {@code false} when they were already joined.
+     */
+    boolean union(final int a, final int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            final int tmp = rootA;
+            rootA = rootB;
+            rootB = tmp;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        components--;
+        return true;
+    }
+
+    int components() {
+        return components;
+    }
+}
@@ -0,0 +1,113 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Blocked Floyd-Warshall over a row-major distance matrix. For every diagonal tile the algorithm first closes
+ * the tile itself, then the tiles sharing its row or column, then all remaining tiles; the tiles of the last
+ * two phases are independent of each other and run on the common ForkJoin pool once the matrix is large enough.
+ */
+public final class FloydWarshall {
+
+    static final int BLOCK_SIZE = 64;
+    private static final int PARALLEL_THRESHOLD = 4 * BLOCK_SIZE;
+
+    private FloydWarshall() {
+    }
+
+    public static AllPairsShortestPaths run(final CsrGraph graph) {
+        return run(graph, graph.nodeCount() >= PARALLEL_THRESHOLD);
+    }
+
+    static AllPairsShortestPaths run(final CsrGraph graph, final boolean parallel) {
+        final int n = graph.nodeCount();
+        final double[] dist = new double[n * n];
+        final int[] next = new int[n * n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(next, -1);
+        for (int u = 0; u < n; u++) {
+            dist[u * n + u] = 0.0;
+            next[u * n + u] = u;
+            for (int arc = graph.offsets[u]; arc < graph.offsets[u + 1]; arc++) {
+                final int v = graph.targets[arc];
+                if (graph.weights[arc] < dist[u * n + v]) {
+                    dist[u * n + v] = graph.weights[arc];
+                    next[u * n + v] = v;
+                }
+            }
+        }
+
+        final Tiles tiles = new Tiles(n, dist, next);
+        final int blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int kb = 0; kb < blocks; kb++) {
+            final int k = kb;
+            tiles.relax(k, k, k);
+
+            final int others = blocks - 1;
+            forEach(2 * others, parallel, t -> {
+                final int b = t % others;
+                final int other = b < k ? b : b + 1;
+                if (t < others) {
+                    tiles.relax(k, other, k);
+                } else {
+                    tiles.relax(other, k, k);
+                }
+            });
+
+            forEach(others * others, parallel, t -> {
+                final int ib = t / others;
+                final int jb = t % others;
+                tiles.relax(ib < k ? ib : ib + 1, jb < k ? jb : jb + 1, k);
+            });
+        }
+
+        boolean negativeCycle = false;
+        for (int u = 0; u < n && !negativeCycle; u++) {
+            negativeCycle = dist[u * n + u] < 0.0;
+        }
+        return new AllPairsShortestPaths(n, dist, next, negativeCycle);
+    }
+
+    private static void forEach(final int count, final boolean parallel, final IntConsumer task) {
+        if (parallel && count > 1) {
+            IntStream.range(0, count).parallel().forEach(task);
+        } else {
+            for (int t = 0; t < count; t++) {
+                task.accept(t);
+            }
+        }
+    }
+
+    private record Tiles(int n, double[] dist, int[] next) {
+
+        /**
+         * Relaxes tile {@code (ib, jb)} through every intermediate node of block {@code kb}.
+         */
+        void relax(final int ib, final int jb, final int kb) {
+            final int iEnd = Math.min(n, (ib + 1) * BLOCK_SIZE);
+            final int jStart = jb * BLOCK_SIZE;
+            final int jEnd = Math.min(n, jStart + BLOCK_SIZE);
+            final int kEnd = Math.min(n, (kb + 1) * BLOCK_SIZE);
+            for (int k = kb * BLOCK_SIZE; k < kEnd; k++) {
+                final int rowK = k * n;
+                for (int i = ib * BLOCK_SIZE; i < iEnd; i++) {
+                    final int rowI = i * n;
+                    final double dik = dist[rowI + k];
+                    if (dik == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    final int nextIk = next[rowI + k];
+                    for (int j = jStart; j < jEnd; j++) {
+                        final double candidate = dik + dist[rowK + j];
+                        if (candidate < dist[rowI + j]) {
+                            dist[rowI + j] = candidate;
+                            next[rowI + j] = nextIk;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Indexed 4-ary min-heap over the items {@code 0..capacity - 1} with a true decrease-key. Keys and heap positions
+ * are primitive arrays indexed by item, so an item is in the heap at most once and nothing goes stale; the wider
+ * fan-out halves the height of the heap and keeps the children of a node next to each other in memory.
+ */
+final class IndexedHeap {
+
+    private static final int ARITY = 4;
+
+    private final double[] keys;
+    private final int[] heap;
+    private final int[] positions;
+    private int size;
+
+    IndexedHeap(final int capacity) {
+        keys = new double[capacity];
+        heap = new int[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    double keyOf(final int item) {
+        return keys[item];
+    }
+
+    /**
+     * Inserts {@code item} or lowers its key. Returns {@code false}, leaving the heap unchanged, when the item is
+     * already present with a key that is not higher.
+     */
+    boolean offer(final int item, final double key) {
+        int i = positions[item];
+        if (i < 0) {
+            i = size++;
+        } else if (key >= keys[item]) {
+            return false;
+        }
+        keys[item] = key;
+        siftUp(item, i);
+        return true;
+    }
+
+    /**
+     * Removes the item with the smallest key and returns it; its key stays readable through {@link #keyOf(int)}.
+     */
+    int pop() {
+        final int top = heap[0];
+        positions[top] = -1;
+        if (--size > 0) {
+            siftDown(heap[size], 0);
+        }
+        return top;
+    }
+
+    private void siftUp(final int item, int i) {
+        final double key = keys[item];
+        while (i > 0) {
+            final int parent = (i - 1) / ARITY;
+            final int parentItem = heap[parent];
+            if (keys[parentItem] <= key) {
+                break;
+            }
+            heap[i] = parentItem;
+            positions[parentItem] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        positions[item] = i;
+    }
+
+    private void siftDown(final int item, int i) {
+        final double key = keys[item];
+        int first;
+        while ((first = i * ARITY + 1) < size) {
+            int best = first;
+            final int end = Math.min(first + ARITY, size);
+            for (int child = first + 1; child < end; child++) {
+                if (keys[heap[child]] < keys[heap[best]]) {
+                    best = child;
+                }
+            }
+            final int bestItem = heap[best];
+            if (keys[bestItem] >= key) {
+                break;
+            }
+            heap[i] = bestItem;
+            positions[bestItem] = i;
+            i = best;
+        }
+        heap[i] = item;
+        positions[item] = i;
+    }
+}
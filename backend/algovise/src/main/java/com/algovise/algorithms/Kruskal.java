@@ -0,0 +1,62 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public final class Kruskal {
+
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private Kruskal() {
+    }
+
+    /**
+     * Minimum spanning forest ignoring edge direction.
+     */
+    public static SpanningForest run(final CsrGraph graph) {
+        final int n = graph.nodeCount();
+        final int[] order = sortedByWeight(graph.edgeWeights);
+        final DisjointSet components = new DisjointSet(n);
+        final int[] chosen = new int[Math.max(n - 1, 0)];
+        int chosenCount = 0;
+        double totalWeight = 0.0;
+
+        for (int i = 0; i < order.length && chosenCount < chosen.length; i++) {
+            final int e = order[i];
+            if (components.union(graph.edgeSources[e], graph.edgeTargets[e])) {
+                chosen[chosenCount++] = e;
+                totalWeight += graph.edgeWeights[e];
+            }
+        }
+        return new SpanningForest(graph, Arrays.copyOf(chosen, chosenCount), totalWeight);
+    }
+
+    /**
+     * Edge indices ordered by ascending weight, ties by index. Each edge is packed into a single {@code long} holding
+     * the rank of its weight above its index, so both sorts are over primitive arrays and split across cores.
+     */
+    static int[] sortedByWeight(final double[] weights) {
+        final int m = weights.length;
+        final double[] sorted = weights.clone();
+        Arrays.parallelSort(sorted);
+
+        // equal weights always take the same search path, so they get the same rank
+        final long[] keys = new long[m];
+        final IntConsumer pack = e -> keys[e] = (long) Arrays.binarySearch(sorted, weights[e]) << 32 | e;
+        if (m >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, m).parallel().forEach(pack);
+        } else {
+            for (int e = 0; e < m; e++) {
+                pack.accept(e);
+            }
+        }
+        Arrays.parallelSort(keys);
+
+        final int[] order = new int[m];
+        for (int i = 0; i < m; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,138 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * ALT preprocessing: exact distances from and to a few landmark nodes. For any landmark {@code L} the triangle
+ * inequality gives {@code d(v, t) >= d(L, t) - d(L, v)} and {@code d(v, t) >= d(v, L) - d(t, L)}, so the best of
+ * these bounds is an admissible A* heuristic that needs no coordinates. Landmarks are picked one at a time as the
+ * node farthest from every landmark chosen so far, which places them on the rim of the graph where the bounds
+ * are tightest. Weights must be non-negative.
+ */
+public final class Landmarks {
+
+    private final int nodeCount;
+    private final int[] nodes;
+    /** {@code d(L, v)} at {@code v * count + l}. */
+    private final double[] fromLandmark;
+    /** {@code d(v, L)} at {@code v * count + l}; the same array as {@link #fromLandmark} for undirected graphs. */
+    private final double[] toLandmark;
+
+    private Landmarks(final int nodeCount, final int[] nodes, final double[] fromLandmark, final double[] toLandmark) {
+        this.nodeCount = nodeCount;
+        this.nodes = nodes;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    public static Landmarks select(final CsrGraph graph, final int maxCount) {
+        if (graph.negativeWeights) {
+            throw new IllegalArgumentException("Landmark distances require non-negative edge weights");
+        }
+        final int n = graph.nodeCount();
+        if (n == 0 || maxCount <= 0) {
+            return new Landmarks(n, new int[0], new double[0], new double[0]);
+        }
+        final CsrGraph reversed = graph.reversed();
+
+        final int[] chosen = new int[Math.min(maxCount, n)];
+        final double[][] from = new double[chosen.length][];
+        final double[][] to = new double[chosen.length][];
+        // distance of every node to its nearest landmark in either direction, seeded from node 0
+        final double[] separation = distances(graph, 0);
+        int count = 0;
+        while (count < chosen.length) {
+            int landmark = 0;
+            for (int v = 1; v < n; v++) {
+                if (separation[v] > separation[landmark]) {
+                    landmark = v;
+                }
+            }
+            if (separation[landmark] <= 0.0) {
+                break;
+            }
+            chosen[count] = landmark;
+            from[count] = distances(graph, landmark);
+            to[count] = graph.directed ? distances(reversed, landmark) : from[count];
+            for (int v = 0; v < n; v++) {
+                separation[v] = Math.min(separation[v], Math.min(from[count][v], to[count][v]));
+            }
+            count++;
+        }
+
+        final double[] fromLandmark = interleave(from, count, n);
+        final double[] toLandmark = graph.directed ? interleave(to, count, n) : fromLandmark;
+        return new Landmarks(n, Arrays.copyOf(chosen, count), fromLandmark, toLandmark);
+    }
+
+    private static double[] distances(final CsrGraph graph, final int source) {
+        final ShortestPathTree tree = Dijkstra.run(graph, source);
+        final double[] distances = new double[graph.nodeCount()];
+        for (int v = 0; v < distances.length; v++) {
+            distances[v] = tree.distanceTo(v);
+        }
+        return distances;
+    }
+
+    private static double[] interleave(final double[][] rows, final int count, final int n) {
+        final double[] table = new double[count * n];
+        for (int l = 0; l < count; l++) {
+            for (int v = 0; v < n; v++) {
+                table[v * count + l] = rows[l][v];
+            }
+        }
+        return table;
+    }
+
+    public int count() {
+        return nodes.length;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Dense index of the {@code i}-th landmark.
+     */
+    public int landmark(final int i) {
+        return nodes[i];
+    }
+
+    /**
+     * Number of table entries held, used to bound caches.
+     */
+    public long cells() {
+        final long cells = (long) nodeCount * count();
+        return toLandmark == fromLandmark ? cells : 2 * cells;
+    }
+
+    /**
+     * Lower bound on the distance to {@code target}. A node that provably cannot reach the target gets an
+     * infinite estimate, so A* never expands it before the target.
+     */
+    public AStar.Heuristic toward(final int target) {
+        final int count = count();
+        if (count == 0) {
+            return AStar.NONE;
+        }
+        final double[] landmarkToTarget = Arrays.copyOfRange(fromLandmark, target * count, target * count + count);
+        final double[] targetToLandmark = Arrays.copyOfRange(toLandmark, target * count, target * count + count);
+        return node -> {
+            final int base = node * count;
+            double bound = 0.0;
+            for (int l = 0; l < count; l++) {
+                // an infinite minus an infinite distance is NaN and fails both comparisons
+                final double forward = landmarkToTarget[l] - fromLandmark[base + l];
+                if (forward > bound) {
+                    bound = forward;
+                }
+                final double backward = toLandmark[base + l] - targetToLandmark[l];
+                if (backward > bound) {
+                    bound = backward;
+                }
+            }
+            return bound;
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.algovise.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of {@code (double key, int value)} pairs kept in two parallel primitive arrays,
+ * so pushing and popping never allocates a boxed entry. Duplicate values are allowed; callers
+ * skip stale entries when they pop them.
+ */
+final class MinHeap {
+
+    private double[] keys;
+    private int[] values;
+    private int size;
+
+    MinHeap(final int initialCapacity) {
+        final int capacity = Math.max(initialCapacity, 4);
+        keys = new double[capacity];
+        values = new int[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    double peekKey() {
+        return keys[0];
+    }
+
+    int peekValue() {
+        return values[0];
+    }
+
+    void push(final double key, final int value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    /**
+     * Removes the minimum entry and returns its value; read its key with {@link #peekKey()} beforehand.
+     */
+    int pop() {
+        final int top = values[0];
+        final int last = --size;
+        if (last > 0) {
+            siftDown(keys[last], values[last], last);
+        }
+        return top;
+    }
+
+    private void siftDown(final double key, final int value, final int length) {
+        int i = 0;
+        int child;
+        while ((child = 2 * i + 1) < length) {
+            if (child + 1 < length && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            values[i] = values[child];
+            i = child;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+}
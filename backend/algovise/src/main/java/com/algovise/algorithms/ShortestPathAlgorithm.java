@@ -0,0 +1,29 @@
+package com.algovise.algorithms;
+
+import java.util.Optional;
+
+public enum ShortestPathAlgorithm {
+    DIJKSTRA("dijkstra"),
+    BELLMAN_FORD("bellman-ford"),
+    ASTAR("astar"),
+    ALT("alt");
+
+    private final String parameter;
+
+    ShortestPathAlgorithm(final String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public static Optional<ShortestPathAlgorithm> fromParameter(final String parameter) {
+        for (ShortestPathAlgorithm algorithm : values()) {
+            if (algorithm.parameter.equalsIgnoreCase(parameter)) {
+                return Optional.of(algorithm);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,85 @@
+package com.algovise.algorithms;
+
+/**
+ * Single-source result: the distance to every node and the arc that reached it.
+ * Unreachable nodes have an infinite distance and a parent arc of {@code -1}. When a negative cycle
+ * is reachable from the source the distances are meaningless, no paths are reported and the cycle is kept instead.
+ */
+public final class ShortestPathTree {
+
+    private final CsrGraph graph;
+    private final int source;
+    private final double[] distances;
+    private final int[] parentArcs;
+    private final int[] parents;
+    private final int[] negativeCycle;
+
+    ShortestPathTree(final CsrGraph graph, final int source, final double[] distances,
+                     final int[] parents, final int[] parentArcs) {
+        this(graph, source, distances, parents, parentArcs, new int[0]);
+    }
+
+    ShortestPathTree(final CsrGraph graph, final int source, final double[] distances,
+                     final int[] parents, final int[] parentArcs, final int[] negativeCycle) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+        this.parentArcs = parentArcs;
+        this.negativeCycle = negativeCycle;
+    }
+
+    public int source() {
+        return source;
+    }
+
+    public boolean hasNegativeCycle() {
+        return negativeCycle.length > 0;
+    }
+
+    /**
+     * Dense node indices of a negative cycle reachable from the source, in arc order and with the arc from the
+     * last node back to the first implied, or an empty array when there is none.
+     */
+    public int[] negativeCycle() {
+        return negativeCycle.clone();
+    }
+
+    public double distanceTo(final int node) {
+        return distances[node];
+    }
+
+    public boolean hasPathTo(final int node) {
+        return !hasNegativeCycle() && distances[node] != Double.POSITIVE_INFINITY;
+    }
+
+    public int parentOf(final int node) {
+        return parents[node];
+    }
+
+    /**
+     * Id of the persisted edge used to reach {@code node}, or {@code -1} for the source and unreachable nodes.
+     */
+    public long parentEdgeIdOf(final int node) {
+        final int arc = parentArcs[node];
+        return arc < 0 ? -1L : graph.edgeIds[graph.arcEdges[arc]];
+    }
+
+    /**
+     * Dense node indices from the source to {@code node}, or an empty array when there is no path.
+     */
+    public int[] pathTo(final int node) {
+        if (!hasPathTo(node)) {
+            return new int[0];
+        }
+        int length = 1;
+        for (int v = node; v != source; v = parents[v]) {
+            length++;
+        }
+        final int[] path = new int[length];
+        for (int v = node, i = length - 1; i >= 0; v = parents[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+}
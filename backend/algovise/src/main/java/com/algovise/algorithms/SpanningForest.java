@@ -0,0 +1,34 @@
+package com.algovise.algorithms;
+
+/**
+ * Minimum spanning forest: the chosen edges (indices into the snapshot's edge list) and their total weight.
+ * Disconnected graphs yield one tree per component.
+ */
+public final class SpanningForest {
+
+    private final CsrGraph graph;
+    private final int[] edges;
+    private final double totalWeight;
+
+    SpanningForest(final CsrGraph graph, final int[] edges, final double totalWeight) {
+        this.graph = graph;
+        this.edges = edges;
+        this.totalWeight = totalWeight;
+    }
+
+    public double totalWeight() {
+        return totalWeight;
+    }
+
+    public int edgeCount() {
+        return edges.length;
+    }
+
+    public long[] edgeIds() {
+        final long[] ids = new long[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            ids[i] = graph.edgeIds[edges[i]];
+        }
+        return ids;
+    }
+}
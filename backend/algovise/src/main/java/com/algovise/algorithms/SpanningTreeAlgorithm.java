@@ -0,0 +1,28 @@
+package com.algovise.algorithms;
+
+import java.util.Optional;
+
+public enum SpanningTreeAlgorithm {
+    KRUSKAL("kruskal"),
+    BORUVKA("boruvka"),
+    PRIM("prim");
+
+    private final String parameter;
+
+    SpanningTreeAlgorithm(final String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public static Optional<SpanningTreeAlgorithm> fromParameter(final String parameter) {
+        for (SpanningTreeAlgorithm algorithm : values()) {
+            if (algorithm.parameter.equalsIgnoreCase(parameter)) {
+                return Optional.of(algorithm);
+            }
+        }
+        return Optional.empty();
+    }
+}
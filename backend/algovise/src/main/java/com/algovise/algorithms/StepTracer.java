@@ -0,0 +1,11 @@
+package com.algovise.algorithms;
+
+/**
+ * Step-by-step execution of an algorithm. Each call performs one elementary step (one frontier pop
+ * and the work that follows it), reports it to the listener and returns {@code false} once finished.
+ */
+@FunctionalInterface
+public interface StepTracer {
+
+    boolean step(TraceListener listener);
+}
@@ -0,0 +1,36 @@
+package com.algovise.algorithms;
+
+import java.util.Optional;
+
+public enum TraceAlgorithm {
+    BFS("bfs"),
+    DFS("dfs"),
+    DIJKSTRA("dijkstra");
+
+    private final String parameter;
+
+    TraceAlgorithm(final String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public StepTracer tracer(final CsrGraph graph, final int source) {
+        return switch (this) {
+            case BFS -> BreadthFirstSearch.tracer(graph, source);
+            case DFS -> DepthFirstSearch.tracer(graph, source);
+            case DIJKSTRA -> Dijkstra.tracer(graph, source);
+        };
+    }
+
+    public static Optional<TraceAlgorithm> fromParameter(final String parameter) {
+        for (TraceAlgorithm algorithm : values()) {
+            if (algorithm.parameter.equalsIgnoreCase(parameter)) {
+                return Optional.of(algorithm);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,17 @@
+package com.algovise.algorithms;
+
+/**
+ * Receives the elementary events of a traced run. Nodes and arcs are dense snapshot indices;
+ * {@code push}/{@code pop} describe the frontier (queue, stack or heap) as deltas, so a pushed node
+ * that is already on the frontier only changes its priority.
+ */
+public interface TraceListener {
+
+    void push(int node, double priority);
+
+    void pop(int node);
+
+    void visit(int node, double distance);
+
+    void relax(int arc, int node, double distance);
+}
@@ -0,0 +1,47 @@
+package com.algovise.configs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Completions used to be recorded without a uniqueness check, so older databases can hold the same
+ * (user, quiz) pair more than once, and {@code ddl-auto=update} then fails to add
+ * {@code uk_completed_quiz_user_quiz}. The duplicates are deleted, keeping the oldest row of each pair,
+ * before the entity manager factory runs the schema update.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompletedQuizDeduplicator implements InitializingBean {
+
+    static final String DELETE_DUPLICATES = "DELETE duplicate FROM user_completed_quizzes duplicate"
+            + " JOIN user_completed_quizzes kept ON kept.user_id = duplicate.user_id"
+            + " AND kept.quiz_id = duplicate.quiz_id AND kept.id < duplicate.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            int deleted = jdbcTemplate.update(DELETE_DUPLICATES);
+            if (deleted > 0) {
+                log.info("Deleted {} duplicate quiz completions", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not delete duplicate quiz completions: {}", e.getMessage());
+        }
+    }
+
+    @Component
+    static class EntityManagerFactoryDependsOnDeduplicator extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnDeduplicator() {
+            super(CompletedQuizDeduplicator.class);
+        }
+    }
+}
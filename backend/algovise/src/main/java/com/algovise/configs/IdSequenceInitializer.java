@@ -0,0 +1,52 @@
+package com.algovise.configs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Graph, node and edge ids come from pooled sequences, which MySQL emulates with one-row
+ * {@code *_seq} tables. Hibernate creates those tables starting at 1, so on databases that already
+ * hold rows inserted with IDENTITY ids the sequences are moved past the highest existing id before
+ * the first insert. The pooled optimizer hands out {@code (next_val - ALLOCATION_SIZE, next_val]},
+ * hence the extra block of headroom.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer implements InitializingBean {
+
+    public static final int ALLOCATION_SIZE = 100;
+
+    private static final Map<String, String> SEQUENCE_TABLES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCE_TABLES.put("graph_seq", "graph");
+        SEQUENCE_TABLES.put("node_seq", "node");
+        SEQUENCE_TABLES.put("edge_seq", "edge");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        SEQUENCE_TABLES.forEach(this::moveSequencePastExistingIds);
+    }
+
+    private void moveSequencePastExistingIds(final String sequence, final String table) {
+        final String floor = "(SELECT COALESCE(MAX(id), 0) + " + ALLOCATION_SIZE + " FROM " + table + ")";
+        try {
+            jdbcTemplate.update("UPDATE " + sequence + " SET next_val = " + floor + " WHERE next_val < " + floor);
+        } catch (DataAccessException e) {
+            log.warn("Could not align id sequence {} with table {}: {}", sequence, table, e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.algovise.configs;
 
 import com.algovise.dtos.UserDto;
+import com.algovise.services.UserChangedEvent;
 import com.algovise.services.UserService;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
@@ -9,26 +10,52 @@ import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
 public class UserAuthenticationProvider {
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
     @Value("secret_key")
     private String secretKey;
 
     private final UserService userService;
 
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    /**
+     * Principals of already verified tokens, dropped once the token expires; bounded by evicting the least
+     * recently used token.
+     */
+    private final Map<String, VerifiedToken> verifiedTokens = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > MAX_CACHED_TOKENS;
+                }
+            });
+
+    private record VerifiedToken(UserDto user, long expiresAt) {
+    }
+
     @PostConstruct
     protected void init()
     {
         secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        algorithm = Algorithm.HMAC256(secretKey);
+        verifier = JWT.require(algorithm).build();
     }
 
     public String createToken(final String name)
@@ -36,8 +63,6 @@ public class UserAuthenticationProvider {
         Date now = new Date();
         Date validity = new Date(now.getTime() + 3600000);
 
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-
         return JWT.create()
                 .withSubject(name)
                 .withIssuedAt(now)
@@ -47,43 +72,63 @@ public class UserAuthenticationProvider {
 
     public Authentication validateToken(final String token)
     {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-
-        JWTVerifier verifier = JWT.require(algorithm)
-                .build();
-
-        DecodedJWT decoded = verifier.verify(token);
-
-        UserDto userDto = userService.findByName(decoded.getSubject());
+        UserDto userDto = getUser(token);
 
-        return new UsernamePasswordAuthenticationToken(userDto, null, Collections.emptyList());
+        return new UsernamePasswordAuthenticationToken(userDto, token, Collections.emptyList());
     }
 
     public boolean isUserAdmin(final String token)
     {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-
-        JWTVerifier verifier = JWT.require(algorithm)
-                .build();
-
-        DecodedJWT decoded = verifier.verify(token);
-
-        UserDto userDto = userService.findByName(decoded.getSubject());
+        UserDto userDto = getUser(token);
 
         return userDto.getRole().equals("ADMIN");
     }
 
     public Long getUserIdByToken(String token)
     {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+        UserDto userDto = getUser(token);
 
-        JWTVerifier verifier = JWT.require(algorithm)
-                .build();
+        return userDto.getId();
+    }
 
-        DecodedJWT decoded = verifier.verify(token);
+    @EventListener
+    public void onUserChanged(final UserChangedEvent event)
+    {
+        synchronized (verifiedTokens)
+        {
+            verifiedTokens.values().removeIf(verifiedToken -> event.userId().equals(verifiedToken.user().getId()));
+        }
+    }
 
-        UserDto userDto = userService.findByName(decoded.getSubject());
+    /**
+     * Resolves the user behind a token. The authentication that {@link JwtAuthFilter} stored for the current
+     * request is used when it belongs to the same token; otherwise the token is verified at most once per lifetime.
+     */
+    private UserDto getUser(final String token)
+    {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && token.equals(authentication.getCredentials())
+                && authentication.getPrincipal() instanceof UserDto userDto)
+        {
+            return userDto;
+        }
+
+        VerifiedToken verifiedToken = verifiedTokens.get(token);
+        if (verifiedToken != null)
+        {
+            if (verifiedToken.expiresAt() > System.currentTimeMillis())
+            {
+                return verifiedToken.user();
+            }
+            verifiedTokens.remove(token);
+        }
 
-        return userDto.getId();
+        DecodedJWT decoded = verifier.verify(token);
+        UserDto userDto = userService.findByName(decoded.getSubject());
+        if (decoded.getExpiresAt() != null)
+        {
+            verifiedTokens.put(token, new VerifiedToken(userDto, decoded.getExpiresAt().getTime()));
+        }
+        return userDto;
     }
 }
@@ -30,6 +30,7 @@ public class WebConfig {
                 HttpMethod.GET.name(),
                 HttpMethod.PUT.name(),
                 HttpMethod.POST.name(),
+                HttpMethod.PATCH.name(),
                 HttpMethod.DELETE.name()
         ));
         config.setMaxAge(3600L);
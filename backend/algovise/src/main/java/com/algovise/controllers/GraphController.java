@@ -1,18 +1,27 @@
 package com.algovise.controllers;
 
-import com.algovise.configs.UserAuthenticationProvider;
+import com.algovise.algorithms.AlgorithmTrace;
+import com.algovise.algorithms.AllPairsMatrix;
 import com.algovise.dtos.EdgeDto;
+import com.algovise.dtos.GraphChangeSetDto;
+import com.algovise.dtos.GraphContentsDto;
+import com.algovise.dtos.GraphSummaryPageDto;
+import com.algovise.dtos.GraphSyncResultDto;
+import com.algovise.dtos.ShortestPathDto;
+import com.algovise.dtos.SpanningTreeDto;
 import com.algovise.entities.Edge;
 import com.algovise.entities.Graph;
 import com.algovise.entities.Node;
+import com.algovise.services.GraphAlgorithmService;
 import com.algovise.services.GraphService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
-import java.util.stream.IntStream;
 
 @RestController
 @AllArgsConstructor
@@ -20,7 +29,7 @@ import java.util.stream.IntStream;
 public class GraphController {
 
     private final GraphService graphService;
-    private final UserAuthenticationProvider userAuthenticationProvider;
+    private final GraphAlgorithmService graphAlgorithmService;
 
     @GetMapping
     public List<Graph> getAllGraphs(@RequestHeader("Authorization") String authorizationHeader) {
@@ -28,36 +37,100 @@ public class GraphController {
         return graphService.getAllGraphs(token);
     }
 
+    @GetMapping("/summaries")
+    public GraphSummaryPageDto getGraphSummaries(@RequestParam(value = "after", required = false) Long after,
+                                                 @RequestParam(value = "limit", defaultValue = "50") int limit,
+                                                 @RequestHeader("Authorization") String authorizationHeader) {
+        String token = extractToken(authorizationHeader);
+        return graphService.getGraphSummaries(after, limit, token);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Graph> getGraphById(@PathVariable Long id, @RequestHeader("Authorization") String authorizationHeader) throws IllegalAccessException {
         String token = extractToken(authorizationHeader);
-        Graph graph = graphService.getGraphById(id, token);
+        Graph graph = graphService.getFullGraphById(id, token);
         return ResponseEntity.ok(graph);
     }
 
+    @GetMapping("/{id}/shortest-path")
+    public ResponseEntity<ShortestPathDto> getShortestPath(@PathVariable Long id, @RequestParam("from") Long from, @RequestParam("to") Long to,
+                                                           @RequestParam(value = "algorithm", defaultValue = "dijkstra") String algorithm,
+                                                           @RequestHeader("Authorization") String authorizationHeader) {
+        try {
+            String token = extractToken(authorizationHeader);
+            return ResponseEntity.ok(graphAlgorithmService.shortestPath(id, from, to, algorithm, token));
+        } catch (IllegalAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+    }
+
+    @GetMapping("/{id}/spanning-tree")
+    public ResponseEntity<SpanningTreeDto> getSpanningTree(@PathVariable Long id,
+                                                           @RequestParam(value = "algorithm", defaultValue = "kruskal") String algorithm,
+                                                           @RequestHeader("Authorization") String authorizationHeader) {
+        try {
+            String token = extractToken(authorizationHeader);
+            return ResponseEntity.ok(graphAlgorithmService.spanningTree(id, algorithm, token));
+        } catch (IllegalAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+    }
+
+    @GetMapping(value = "/{id}/all-pairs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllPairsShortestPaths(@PathVariable Long id, @RequestHeader("Authorization") String authorizationHeader) {
+        try {
+            String token = extractToken(authorizationHeader);
+            AllPairsMatrix matrix = graphAlgorithmService.allPairs(id, token);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(matrix::writeTo);
+        } catch (IllegalAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+    }
+
+    @GetMapping("/{id}/all-pairs/path")
+    public ResponseEntity<ShortestPathDto> getAllPairsPath(@PathVariable Long id, @RequestParam("from") Long from, @RequestParam("to") Long to,
+                                                           @RequestHeader("Authorization") String authorizationHeader) {
+        try {
+            String token = extractToken(authorizationHeader);
+            return ResponseEntity.ok(graphAlgorithmService.allPairsPath(id, from, to, token));
+        } catch (IllegalAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+    }
+
+    @GetMapping(value = "/{id}/trace", produces = AlgorithmTrace.CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> traceAlgorithm(@PathVariable Long id, @RequestParam("algorithm") String algorithm, @RequestParam("from") Long from,
+                                                                @RequestHeader("Authorization") String authorizationHeader) {
+        try {
+            String token = extractToken(authorizationHeader);
+            AlgorithmTrace trace = graphAlgorithmService.trace(id, algorithm, from, token);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(AlgorithmTrace.CONTENT_TYPE))
+                    .body(trace::writeTo);
+        } catch (IllegalAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+    }
+
     @PostMapping
-    public ResponseEntity<Graph> createGraph(@RequestBody Graph graph, @RequestHeader("Authorization") String authorizationHeader) {
+    public ResponseEntity<Graph> createGraph(@RequestBody Graph graph, @RequestParam(value = "baseVersion", required = false) Long baseVersion,
+                                             @RequestHeader("Authorization") String authorizationHeader) {
         try {
             String token = extractToken(authorizationHeader);
-            Graph createdGraph = graphService.createGraph(graph, token);
+            Graph createdGraph = graphService.createGraph(graph, baseVersion, token);
             return ResponseEntity.ok(createdGraph);
         } catch (IllegalAccessException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
         }
     }
 
-    private static List<Node> justAddedNodes = new ArrayList<>();
-
     @PostMapping("/{graphId}/nodes")
     public ResponseEntity<List<Node>> addNodeToGraph(@PathVariable Long graphId, @RequestBody Node[] nodes, @RequestHeader("Authorization") String authorizationHeader) {
-        justAddedNodes.clear();
         try {
             String token = extractToken(authorizationHeader);
-            List<Node> createdNodes = new ArrayList<>();
-            for (Node node : nodes) {
-                createdNodes.add(graphService.addNodeToGraph(graphId, node, token));
-            }
-            justAddedNodes.addAll(createdNodes);
+            List<Node> createdNodes = graphService.addNodesToGraph(graphId, Arrays.asList(nodes), token);
             return ResponseEntity.ok(createdNodes);
         } catch (IllegalAccessException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
@@ -68,17 +141,23 @@ public class GraphController {
     public ResponseEntity<List<Edge>> addEdgeToGraph(@PathVariable Long graphId, @RequestBody EdgeDto[] edgeDtos, @RequestHeader("Authorization") String authorizationHeader) {
         try {
             String token = extractToken(authorizationHeader);
-            removeNotExistingNodes(graphId, edgeDtos, token);
-            List<Edge> createdEdges = new ArrayList<>();
-            for (EdgeDto edgeDto : edgeDtos) {
-                createdEdges.add(graphService.addEdgeToGraph(graphId, edgeDto, token));
-            }
+            List<Edge> createdEdges = graphService.replaceEdges(graphId, Arrays.asList(edgeDtos), token);
             return ResponseEntity.ok(createdEdges);
         } catch (IllegalAccessException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
         }
     }
 
+    @PutMapping("/{id}/contents")
+    public ResponseEntity<GraphSyncResultDto> replaceGraphContents(@PathVariable Long id, @RequestBody GraphContentsDto contents, @RequestHeader("Authorization") String authorizationHeader) {
+        try {
+            String token = extractToken(authorizationHeader);
+            return ResponseEntity.ok(graphService.replaceContents(id, contents, token));
+        } catch (IllegalAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Graph> updateGraph(@PathVariable Long id, @RequestBody Graph graph, @RequestHeader("Authorization") String authorizationHeader) {
         try {
@@ -90,6 +169,16 @@ public class GraphController {
         }
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<GraphSyncResultDto> applyGraphChanges(@PathVariable Long id, @RequestBody GraphChangeSetDto changes, @RequestHeader("Authorization") String authorizationHeader) {
+        try {
+            String token = extractToken(authorizationHeader);
+            return ResponseEntity.ok(graphService.applyChanges(id, changes, token));
+        } catch (IllegalAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteGraph(@PathVariable Long id, @RequestHeader("Authorization") String authorizationHeader) {
         try {
@@ -101,58 +190,6 @@ public class GraphController {
         }
     }
 
-    private void removeNotExistingNodes(final Long graphId, final EdgeDto[] edges, String token) throws IllegalAccessException {
-        Long userId = userAuthenticationProvider.getUserIdByToken(token);
-        Graph graph = graphService.findGraphById(graphId).orElseThrow();
-
-        if (!graph.getUser().getId().equals(userId)) {
-            throw new IllegalAccessException("Trying to modify graph of someone else!");
-        }
-
-        Set<Long> idsOfExistingNodes = new HashSet<>();
-
-        for (EdgeDto edgeDto : edges) {
-            idsOfExistingNodes.add(edgeDto.getSourceId());
-            idsOfExistingNodes.add(edgeDto.getTargetId());
-        }
-
-
-        for (Node node : graph.getNodes()) {
-            final Long nodeId = node.getId();
-            if (!idsOfExistingNodes.contains(nodeId)) {
-                Set<Long> idsOfEdgesToBeRemoved = new HashSet<>();
-                for (Edge edge : graph.getEdges()) {
-                    if (Objects.equals(edge.getSourceId(), nodeId) || Objects.equals(edge.getTargetId(), nodeId)) {
-                        idsOfEdgesToBeRemoved.add(edge.getId());
-                    }
-                }
-
-                graphService.removeEdges(idsOfEdgesToBeRemoved);
-                for(Node justAddedNode : justAddedNodes)
-                {
-                    if(justAddedNode.getId().equals(nodeId))
-                    {
-                        break;
-                    }
-                    graphService.removeNode(nodeId);
-                }
-            }
-        }
-
-        for (Edge edge : graph.getEdges()) {
-            boolean edgeExists = false;
-            for (EdgeDto edgeDto : edges) {
-                if (Objects.equals(edgeDto.getId(), edge.getId())) {
-                    edgeExists = true;
-                    break;
-                }
-            }
-            if (!edgeExists) {
-                graphService.removeEdges(Set.of(edge.getId()));
-            }
-        }
-    }
-
     private String extractToken(String authorizationHeader) {
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
             throw new IllegalArgumentException("Invalid Authorization header");
@@ -1,20 +1,30 @@
 package com.algovise.controllers;
 
 import com.algovise.configs.UserAuthenticationProvider;
-import com.algovise.dtos.QuizDto;
+import com.algovise.exceptions.AppException;
+import com.algovise.services.CatalogSnapshot;
+import com.algovise.services.FileContent;
+import com.algovise.services.FileUpload;
+import com.algovise.services.GzipVariant;
 import com.algovise.services.QuizService;
 import com.algovise.services.UserCompletedQuizzesService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
 import java.util.Objects;
 
 @RestController
@@ -35,9 +45,13 @@ public class QuizController {
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<QuizDto>> getAllQuizzes() {
-        List<QuizDto> quizzes = quizService.getAllQuizzes();
-        return ResponseEntity.ok(quizzes);
+    public ResponseEntity<byte[]> getAllQuizzes() {
+        CatalogSnapshot catalog = quizService.getQuizCatalog();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(catalog.eTag())
+                .body(catalog.json());
     }
 
     @PostMapping("/add")
@@ -60,11 +74,17 @@ public class QuizController {
 
             String fileName = file.getOriginalFilename();
             Path filePath = directory.resolve(fileName);
-            Files.write(filePath, file.getBytes());
+            FileUpload.StoredFile stored;
+            try (InputStream content = file.getInputStream()) {
+                stored = FileUpload.store(content, filePath, FileUpload.Format.JSON);
+            }
+            GzipVariant.write(filePath);
 
-            quizService.saveQuiz(title, filePath.toString());
+            quizService.saveQuiz(title, filePath.toString(), stored.contentHash());
 
             return ResponseEntity.ok("Quiz saved successfully.");
+        } catch (AppException e) {
+            return ResponseEntity.status(e.getStatus()).body(e.getMessage());
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Error saving quiz: " + e.getMessage());
@@ -72,12 +92,22 @@ public class QuizController {
     }
 
     @GetMapping("/file/{quizId}")
-    public ResponseEntity<String> getQuiz(@PathVariable Long quizId) {
+    public ResponseEntity<Resource> getQuiz(@PathVariable Long quizId,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
-            String content = quizService.getQuizContent(quizId);
-            return ResponseEntity.ok(content);
+            FileContent content = quizService.getQuizFile(quizId);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .lastModified(content.lastModified());
+            if (content.hasGzipVariant() && GzipVariant.isAccepted(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, GzipVariant.ENCODING)
+                        .eTag(content.contentHash() + GzipVariant.ETAG_SUFFIX)
+                        .body(content.asGzipResource());
+            }
+            return response.eTag(content.contentHash()).body(content.asResource());
         } catch (IOException e) {
-            return ResponseEntity.status(500).body("Error reading quiz: " + e.getMessage());
+            return ResponseEntity.status(500).body(new ByteArrayResource(("Error reading quiz: " + e.getMessage()).getBytes(StandardCharsets.UTF_8)));
         }
     }
 
@@ -93,6 +123,7 @@ public class QuizController {
             Path path = Paths.get(filePath);
             if (Files.exists(path)) {
                 Files.delete(path);
+                GzipVariant.delete(path);
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Quiz file not found.");
             }
@@ -1,24 +1,36 @@
 package com.algovise.controllers;
 
 import com.algovise.configs.UserAuthenticationProvider;
-import com.algovise.dtos.TutorialDto;
+import com.algovise.exceptions.AppException;
+import com.algovise.services.CatalogSnapshot;
+import com.algovise.services.FileContent;
+import com.algovise.services.FileUpload;
+import com.algovise.services.GzipVariant;
 import com.algovise.services.TutorialService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
 import java.util.Objects;
 
 @RestController
 @RequestMapping("/tutorials")
 public class TutorialController {
+    private static final MediaType MARKDOWN = new MediaType("text", "markdown", StandardCharsets.UTF_8);
+
     private final TutorialService tutorialService;
     private final UserAuthenticationProvider userAuthenticationProvider;
 
@@ -32,9 +44,13 @@ public class TutorialController {
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<TutorialDto>> getAllTutorials() {
-        List<TutorialDto> tutorials = tutorialService.getAllTutorials();
-        return ResponseEntity.ok(tutorials);
+    public ResponseEntity<byte[]> getAllTutorials() {
+        CatalogSnapshot catalog = tutorialService.getTutorialCatalog();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(catalog.eTag())
+                .body(catalog.json());
     }
 
     @PostMapping("/add")
@@ -57,11 +73,17 @@ public class TutorialController {
 
             String fileName = file.getOriginalFilename();
             Path filePath = directory.resolve(fileName);
-            Files.write(filePath, file.getBytes());
+            FileUpload.StoredFile stored;
+            try (InputStream content = file.getInputStream()) {
+                stored = FileUpload.store(content, filePath, FileUpload.Format.MARKDOWN);
+            }
+            GzipVariant.write(filePath);
 
-            tutorialService.saveTutorial(title, filePath.toString());
+            tutorialService.saveTutorial(title, filePath.toString(), stored.contentHash());
 
             return ResponseEntity.ok("Tutorial saved successfully.");
+        } catch (AppException e) {
+            return ResponseEntity.status(e.getStatus()).body(e.getMessage());
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Error saving tutorial: " + e.getMessage());
@@ -69,12 +91,22 @@ public class TutorialController {
     }
 
     @GetMapping("/file/{tutorialId}")
-    public ResponseEntity<String> getTutorial(@PathVariable Long tutorialId) {
+    public ResponseEntity<Resource> getTutorial(@PathVariable Long tutorialId,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
-            String content = tutorialService.getTutorialContent(tutorialId);
-            return ResponseEntity.ok(content);
+            FileContent content = tutorialService.getTutorialFile(tutorialId);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MARKDOWN)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .lastModified(content.lastModified());
+            if (content.hasGzipVariant() && GzipVariant.isAccepted(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, GzipVariant.ENCODING)
+                        .eTag(content.contentHash() + GzipVariant.ETAG_SUFFIX)
+                        .body(content.asGzipResource());
+            }
+            return response.eTag(content.contentHash()).body(content.asResource());
         } catch (IOException e) {
-            return ResponseEntity.status(500).body("Error reading tutorial: " + e.getMessage());
+            return ResponseEntity.status(500).body(new ByteArrayResource(("Error reading tutorial: " + e.getMessage()).getBytes(StandardCharsets.UTF_8)));
         }
     }
 
@@ -90,6 +122,7 @@ public class TutorialController {
             Path path = Paths.get(filePath);
             if (Files.exists(path)) {
                 Files.delete(path);
+                GzipVariant.delete(path);
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tutorial file not found.");
             }
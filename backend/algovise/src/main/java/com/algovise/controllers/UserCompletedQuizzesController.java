@@ -4,6 +4,7 @@ import com.algovise.services.UserCompletedQuizzesService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 
 @RestController
 @RequestMapping("/completed-quizzes")
@@ -19,9 +20,7 @@ public class UserCompletedQuizzesController {
             @RequestParam Long userId,
             @RequestParam Long quizId
     ) {
-        if(!service.isQuizAlreadyCompleted(userId, quizId)) {
-            service.saveCompletedQuiz(userId, quizId);
-        }
+        service.saveCompletedQuiz(userId, quizId);
         return ResponseEntity.ok("Quiz marked as completed.");
     }
 
@@ -33,4 +32,9 @@ public class UserCompletedQuizzesController {
         boolean completed = service.isQuizAlreadyCompleted(userId, quizId);
         return ResponseEntity.ok(completed);
     }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<List<Long>> getCompletedQuizIds(@PathVariable Long userId) {
+        return ResponseEntity.ok(service.getCompletedQuizIds(userId));
+    }
 }
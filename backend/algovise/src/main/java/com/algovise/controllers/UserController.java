@@ -1,6 +1,7 @@
 package com.algovise.controllers;
 
 import com.algovise.configs.UserAuthenticationProvider;
+import com.algovise.dtos.CacheStatisticsDto;
 import com.algovise.dtos.UpdateUserDto;
 import com.algovise.dtos.UserDto;
 import com.algovise.services.UserService;
@@ -44,6 +45,14 @@ public class UserController
 		return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 	}
 
+	@GetMapping("/cache-statistics")
+	public ResponseEntity<CacheStatisticsDto> getCacheStatistics(@RequestHeader("Authorization") final String authorizationHeader) {
+		if (!userAuthenticationProvider.isUserAdmin(authorizationHeader.substring(7))) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+		}
+		return ResponseEntity.ok(userService.getCacheStatistics());
+	}
+
 	@PostMapping("/update-name")
 	public ResponseEntity<UserDto> updateName(@RequestBody final UpdateUserDto updateUserDto) {
 		UserDto userDto = userService.updateName(updateUserDto.getId(), updateUserDto.getName());
@@ -0,0 +1,17 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CacheStatisticsDto
+{
+    private long hits;
+    private long misses;
+    private int size;
+}
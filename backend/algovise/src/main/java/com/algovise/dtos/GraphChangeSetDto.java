@@ -0,0 +1,36 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Explicit set of changes against the graph version the client started from. Added nodes and edges
+ * carry temporary non-positive ids; added edges may reference added nodes through those ids.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GraphChangeSetDto
+{
+    private Long baseVersion;
+
+    @Builder.Default
+    private List<NodeDto> addedNodes = new ArrayList<>();
+    @Builder.Default
+    private List<NodeDto> updatedNodes = new ArrayList<>();
+    @Builder.Default
+    private List<Long> removedNodeIds = new ArrayList<>();
+
+    @Builder.Default
+    private List<EdgeDto> addedEdges = new ArrayList<>();
+    @Builder.Default
+    private List<EdgeDto> updatedEdges = new ArrayList<>();
+    @Builder.Default
+    private List<Long> removedEdgeIds = new ArrayList<>();
+}
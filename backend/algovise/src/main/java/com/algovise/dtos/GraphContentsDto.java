@@ -0,0 +1,23 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Complete node and edge lists of a graph as edited on the client. Elements without a positive id are new;
+ * edges may reference new nodes through their temporary ids.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GraphContentsDto
+{
+    private Long baseVersion;
+    private List<NodeDto> nodes;
+    private List<EdgeDto> edges;
+}
@@ -0,0 +1,20 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GraphSummaryDto
+{
+    private Long id;
+    private String name;
+    private boolean directed;
+    private boolean weighted;
+    private long nodeCount;
+    private long edgeCount;
+}
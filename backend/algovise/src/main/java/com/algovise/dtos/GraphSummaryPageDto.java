@@ -0,0 +1,18 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GraphSummaryPageDto
+{
+    private List<GraphSummaryDto> items;
+    private Long nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GraphSyncResultDto
+{
+    private long version;
+    private Map<Long, Long> nodeIds;
+    private Map<Long, Long> edgeIds;
+}
@@ -0,0 +1,23 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NodeDto
+{
+    private Long id;
+    private String label;
+    private Double x;
+    private Double y;
+
+    public NodeDto(Long id, String label)
+    {
+        this(id, label, null, null);
+    }
+}
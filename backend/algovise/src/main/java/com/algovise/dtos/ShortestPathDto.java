@@ -0,0 +1,19 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ShortestPathDto
+{
+    private String algorithm;
+    private List<Long> path;
+    private Double distance;
+}
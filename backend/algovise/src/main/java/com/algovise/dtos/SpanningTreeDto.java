@@ -0,0 +1,19 @@
+package com.algovise.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SpanningTreeDto
+{
+    private String algorithm;
+    private double totalWeight;
+    private List<Long> edgeIds;
+}
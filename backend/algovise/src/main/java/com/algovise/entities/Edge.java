@@ -1,5 +1,6 @@
 package com.algovise.entities;
 
+import com.algovise.configs.IdSequenceInitializer;
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
@@ -9,7 +10,8 @@ import lombok.Data;
 @Entity
 public class Edge {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "edge_seq")
+    @SequenceGenerator(name = "edge_seq", sequenceName = "edge_seq", allocationSize = IdSequenceInitializer.ALLOCATION_SIZE)
     private Long id;
 
     @JsonIgnore
@@ -1,5 +1,6 @@
 package com.algovise.entities;
 
+import com.algovise.configs.IdSequenceInitializer;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -9,9 +10,11 @@ import java.util.Set;
 
 @Data
 @Entity
+@Table(indexes = @Index(name = "idx_graph_user_id", columnList = "user_id, id"))
 public class Graph {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "graph_seq")
+    @SequenceGenerator(name = "graph_seq", sequenceName = "graph_seq", allocationSize = IdSequenceInitializer.ALLOCATION_SIZE)
     private Long id;
 
     private String name;
@@ -19,6 +22,9 @@ public class Graph {
     private boolean directed;
     private boolean weighted;
 
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(mappedBy = "graph", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Node> nodes = new HashSet<>();
 
@@ -1,6 +1,7 @@
 package com.algovise.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.algovise.configs.IdSequenceInitializer;
 import jakarta.persistence.*;
 import lombok.Data;
 
@@ -8,11 +9,16 @@ import lombok.Data;
 @Entity
 public class Node {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "node_seq")
+    @SequenceGenerator(name = "node_seq", sequenceName = "node_seq", allocationSize = IdSequenceInitializer.ALLOCATION_SIZE)
     private Long id;
 
     private String label;
 
+    private Double x;
+
+    private Double y;
+
     @JsonIgnore
     @ManyToOne(cascade = CascadeType.REMOVE)
     @JoinColumn(name = "graph_id", nullable = false)
@@ -6,6 +6,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.Data;
 
+import java.time.Instant;
+
 @Data
 @Entity
 public class Quiz {
@@ -14,6 +16,8 @@ public class Quiz {
     private Long id;
     private String title;
     private String filePath;
+    private String contentHash;
+    private Instant lastModified;
 
     @Override
     public String toString()
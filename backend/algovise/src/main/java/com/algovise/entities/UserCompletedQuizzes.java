@@ -3,10 +3,10 @@ package com.algovise.entities;
 import jakarta.persistence.*;
 import lombok.Data;
 
-import java.time.LocalDateTime;
-
 @Data
 @Entity
+@Table(indexes = @Index(name = "idx_completed_quiz_quiz_id", columnList = "quiz_id, user_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_completed_quiz_user_quiz", columnNames = {"user_id", "quiz_id"}))
 public class UserCompletedQuizzes {
 
     @Id
@@ -7,9 +7,25 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface EdgeRepository extends JpaRepository<Edge, Long> {
 
     @Modifying
     @Query("DELETE FROM Edge e WHERE e.id = :id")
     void deleteById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Edge e WHERE e.graph.id = :graphId AND e.id IN :ids")
+    int deleteByGraphIdAndIdIn(@Param("graphId") Long graphId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Edge e WHERE e.graph.id = :graphId AND (e.source.id IN :nodeIds OR e.target.id IN :nodeIds)")
+    int deleteByGraphIdAndNodeIdIn(@Param("graphId") Long graphId, @Param("nodeIds") Collection<Long> nodeIds);
+
+    @Query("SELECT e.id FROM Edge e WHERE e.graph.id = :graphId")
+    List<Long> findIdsByGraphId(@Param("graphId") Long graphId);
+
+    List<Edge> findByGraphIdAndIdIn(Long graphId, Collection<Long> ids);
 }
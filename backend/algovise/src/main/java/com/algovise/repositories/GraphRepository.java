@@ -1,12 +1,43 @@
 package com.algovise.repositories;
 
+import com.algovise.dtos.GraphSummaryDto;
 import com.algovise.entities.Graph;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GraphRepository extends JpaRepository<Graph, Long> {
     List<Graph> findByUserId(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Graph> findForUpdateById(Long id);
+
+    @Query("SELECT g.version FROM Graph g WHERE g.id = :id AND g.user.id = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @EntityGraph(attributePaths = {"user", "nodes"})
+    List<Graph> findWithNodesByUserIdOrderById(Long userId);
+
+    @EntityGraph(attributePaths = {"user", "nodes"})
+    Optional<Graph> findWithNodesById(Long id);
+
+    // Loaded separately from the nodes so the two collections are not joined into a cartesian product.
+    @EntityGraph(attributePaths = {"edges", "edges.source", "edges.target"})
+    List<Graph> findWithEdgesByIdIn(Collection<Long> ids);
+
+    // Keyset page: seeks past the last id of the previous page on the (user_id, id) index instead of using OFFSET.
+    @Query("SELECT new com.algovise.dtos.GraphSummaryDto(g.id, g.name, g.directed, g.weighted, " +
+            "(SELECT COUNT(n) FROM Node n WHERE n.graph = g), (SELECT COUNT(e) FROM Edge e WHERE e.graph = g)) " +
+            "FROM Graph g WHERE g.user.id = :userId AND g.id > :afterId ORDER BY g.id")
+    List<GraphSummaryDto> findSummariesByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
 }
@@ -8,6 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface NodeRepository extends JpaRepository<Node, Long> {
 
@@ -15,4 +18,12 @@ public interface NodeRepository extends JpaRepository<Node, Long> {
     @Query("DELETE FROM Node n WHERE n.id = :id")
     void deleteById(@Param("id") Long id);
 
+    @Modifying
+    @Query("DELETE FROM Node n WHERE n.graph.id = :graphId AND n.id IN :ids")
+    int deleteByGraphIdAndIdIn(@Param("graphId") Long graphId, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT n.id FROM Node n WHERE n.graph.id = :graphId")
+    List<Long> findIdsByGraphId(@Param("graphId") Long graphId);
+
+    List<Node> findByGraphIdAndIdIn(Long graphId, Collection<Long> ids);
 }
@@ -3,5 +3,9 @@ package com.algovise.repositories;
 import com.algovise.entities.Quiz;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
+
+    List<Quiz> findByFilePath(String filePath);
 }
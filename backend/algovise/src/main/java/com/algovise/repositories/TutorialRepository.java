@@ -3,5 +3,9 @@ package com.algovise.repositories;
 import com.algovise.entities.Tutorial;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface TutorialRepository extends JpaRepository<Tutorial, Long> {
+
+    List<Tutorial> findByFilePath(String filePath);
 }
@@ -2,7 +2,19 @@ package com.algovise.repositories;
 
 import com.algovise.entities.UserCompletedQuizzes;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface UserCompletedQuizzesRepository extends JpaRepository<UserCompletedQuizzes, Long> {
     boolean existsByUserIdAndQuizId(Long userId, Long quizId);
+
+    @Query("SELECT c.quizId FROM UserCompletedQuizzes c WHERE c.userId = :userId")
+    List<Long> findQuizIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserCompletedQuizzes c WHERE c.quizId = :quizId")
+    int deleteByQuizId(@Param("quizId") Long quizId);
 }
@@ -0,0 +1,47 @@
+package com.algovise.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Holds the current {@link CatalogSnapshot} and rebuilds it on the first request after an upload or delete.
+ * Every invalidation bumps a generation so a snapshot built from data read before a concurrent change is
+ * returned to its caller but never cached.
+ */
+final class CatalogCache {
+
+    private final ObjectMapper objectMapper;
+    private final Supplier<List<?>> loader;
+    private volatile CatalogSnapshot snapshot;
+    private long generation;
+
+    CatalogCache(final ObjectMapper objectMapper, final Supplier<List<?>> loader) {
+        this.objectMapper = objectMapper;
+        this.loader = loader;
+    }
+
+    CatalogSnapshot get() {
+        CatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        long loadedAt;
+        synchronized (this) {
+            loadedAt = generation;
+        }
+        CatalogSnapshot built = CatalogSnapshot.of(objectMapper, loader.get());
+        synchronized (this) {
+            if (generation == loadedAt) {
+                snapshot = built;
+            }
+        }
+        return built;
+    }
+
+    synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+}
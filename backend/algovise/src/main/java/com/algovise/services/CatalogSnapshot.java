@@ -0,0 +1,22 @@
+package com.algovise.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+/**
+ * Immutable, pre-serialized listing of the quiz or tutorial catalog. The entity tag is the hash of the JSON,
+ * so it only changes when the catalog does and stays valid across restarts.
+ */
+public record CatalogSnapshot(byte[] json, String eTag) {
+
+    public static CatalogSnapshot of(final ObjectMapper objectMapper, final List<?> entries) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(entries);
+            return new CatalogSnapshot(json, FileContent.hashOf(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Catalog could not be serialized", e);
+        }
+    }
+}
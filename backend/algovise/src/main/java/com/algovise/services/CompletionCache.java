@@ -0,0 +1,57 @@
+package com.algovise.services;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * Least-recently-used cache of the ids of the quizzes each user has completed. The cached sets are immutable
+ * and replaced on change. Every change bumps a generation so a set loaded from the database before a
+ * concurrent completion cannot overwrite the newer state.
+ */
+final class CompletionCache {
+
+    private final int maxUsers;
+    private final LinkedHashMap<Long, Set<Long>> completionsByUser = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    CompletionCache(final int maxUsers) {
+        this.maxUsers = maxUsers;
+    }
+
+    synchronized Set<Long> get(final Long userId) {
+        return completionsByUser.get(userId);
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches {@code quizIds} unless the cache changed since {@code loadedAt} was read from {@link #generation()}.
+     */
+    synchronized void putIfUnchanged(final Long userId, final Set<Long> quizIds, final long loadedAt) {
+        if (generation != loadedAt) {
+            return;
+        }
+        completionsByUser.put(userId, Set.copyOf(quizIds));
+        if (completionsByUser.size() > maxUsers) {
+            completionsByUser.remove(completionsByUser.keySet().iterator().next());
+        }
+    }
+
+    synchronized void add(final Long userId, final Long quizId) {
+        generation++;
+        Set<Long> quizIds = completionsByUser.get(userId);
+        if (quizIds != null && !quizIds.contains(quizId)) {
+            Set<Long> updated = new HashSet<>(quizIds);
+            updated.add(quizId);
+            completionsByUser.put(userId, Set.copyOf(updated));
+        }
+    }
+
+    synchronized void clear() {
+        generation++;
+        completionsByUser.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.algovise.services;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * An uploaded quiz or tutorial together with the validators recorded at upload time.
+ * Small files carry their bytes; {@code bytes} is {@code null} for files that are streamed from {@code path}.
+ * {@code gzipPath} is {@code null} when no {@link GzipVariant} exists, and {@code gzipBytes} follows {@code bytes}.
+ */
+public record FileContent(Path path, byte[] bytes, long length, String contentHash, Instant lastModified,
+                          Path gzipPath, byte[] gzipBytes) {
+
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    public FileContent(Path path, byte[] bytes, long length, String contentHash, Instant lastModified) {
+        this(path, bytes, length, contentHash, lastModified, null, null);
+    }
+
+    public boolean hasGzipVariant() {
+        return gzipPath != null;
+    }
+
+    /**
+     * Response body for the file: the cached bytes, or the file itself so it is streamed from disk
+     * and range requests can be answered without loading it.
+     */
+    public Resource asResource() {
+        return bytes != null ? new ByteArrayResource(bytes) : new FileSystemResource(path);
+    }
+
+    public Resource asGzipResource() {
+        return gzipBytes != null ? new ByteArrayResource(gzipBytes) : new FileSystemResource(gzipPath);
+    }
+
+    /**
+     * Bytes held in memory for this file, used to bound the content cache.
+     */
+    long cachedSize() {
+        return (bytes != null ? bytes.length : 0) + (gzipBytes != null ? gzipBytes.length : 0);
+    }
+
+    public byte[] readAllBytes() throws IOException {
+        return bytes != null ? bytes : Files.readAllBytes(path);
+    }
+
+    /**
+     * Hex-encoded SHA-256 of {@code bytes}, used as the strong entity tag of the file.
+     */
+    public static String hashOf(final byte[] bytes) {
+        return HexFormat.of().formatHex(sha256().digest(bytes));
+    }
+
+    /**
+     * Hex-encoded SHA-256 of the file, read in fixed-size chunks.
+     */
+    public static String hashOf(final Path path) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
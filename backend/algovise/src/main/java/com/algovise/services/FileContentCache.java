@@ -0,0 +1,96 @@
+package com.algovise.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of uploaded file contents, bounded by the total number of cached bytes.
+ * Contents larger than an eighth of the budget are never cached so one big file cannot flush all others.
+ * The cached byte arrays are shared and must not be modified. Every eviction bumps a generation so contents
+ * read from disk before a concurrent upload or delete are returned to their caller but never cached.
+ */
+final class FileContentCache {
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final LinkedHashMap<Long, CachedContent> contents = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+    private long generation;
+
+    private record CachedContent(String filePath, FileContent content) {
+        long size() {
+            return content.cachedSize();
+        }
+    }
+
+    FileContentCache(final long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxBytes / 8;
+    }
+
+    /**
+     * Whether a file of {@code length} bytes would be kept in memory; larger files are streamed from disk.
+     */
+    boolean accepts(final long length) {
+        return length <= maxEntryBytes;
+    }
+
+    synchronized FileContent get(final Long id) {
+        CachedContent cached = contents.get(id);
+        return cached != null ? cached.content() : null;
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches {@code content} unless an entry was evicted since {@code loadedAt} was read from {@link #generation()}.
+     */
+    synchronized void putIfUnchanged(final Long id, final String filePath, final FileContent content, final long loadedAt) {
+        if (generation != loadedAt) {
+            return;
+        }
+        remove(id);
+        if (content.bytes() == null || !accepts(content.cachedSize())) {
+            return;
+        }
+        CachedContent cached = new CachedContent(filePath, content);
+        contents.put(id, cached);
+        cachedBytes += cached.size();
+
+        Iterator<CachedContent> eldest = contents.values().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    synchronized void evict(final Long id) {
+        generation++;
+        remove(id);
+    }
+
+    private void remove(final Long id) {
+        CachedContent removed = contents.remove(id);
+        if (removed != null) {
+            cachedBytes -= removed.size();
+        }
+    }
+
+    /**
+     * Drops every entry read from {@code filePath}, e.g. because a new upload has overwritten the file.
+     */
+    synchronized void evictPath(final String filePath) {
+        generation++;
+        Iterator<Map.Entry<Long, CachedContent>> entries = contents.entrySet().iterator();
+        while (entries.hasNext()) {
+            CachedContent cached = entries.next().getValue();
+            if (cached.filePath().equals(filePath)) {
+                cachedBytes -= cached.size();
+                entries.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.algovise.services;
+
+import com.algovise.exceptions.AppException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import org.springframework.http.HttpStatus;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Stores an uploaded quiz or tutorial without holding it in memory. The upload is copied chunk by chunk
+ * into a temporary file next to its target while it is hashed and validated, and only a complete, valid
+ * file is atomically moved into place.
+ */
+public final class FileUpload {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build();
+
+    public enum Format {
+        JSON {
+            @Override
+            void validate(final InputStream in) throws IOException {
+                try {
+                    JsonParser parser = JSON_FACTORY.createParser(in);
+                    if (parser.nextToken() == null) {
+                        throw invalid("Invalid JSON file: the file is empty.");
+                    }
+                    parser.skipChildren();
+                    if (parser.nextToken() != null) {
+                        throw invalid("Invalid JSON file: unexpected content after the root value.");
+                    }
+                } catch (JsonProcessingException e) {
+                    throw invalid("Invalid JSON file: " + e.getOriginalMessage());
+                }
+            }
+        },
+        MARKDOWN {
+            @Override
+            void validate(final InputStream in) throws IOException {
+                CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT);
+                Reader reader = new InputStreamReader(in, decoder);
+                char[] buffer = new char[BUFFER_SIZE / 2];
+                try {
+                    while (reader.read(buffer) != -1) {
+                        // decoding is the validation
+                    }
+                } catch (CharacterCodingException e) {
+                    throw invalid("Invalid markdown file: the file is not valid UTF-8.");
+                }
+            }
+        };
+
+        /**
+         * Reads {@code in} far enough to validate it and throws a {@code BAD_REQUEST} {@link AppException} if it is malformed.
+         */
+        abstract void validate(InputStream in) throws IOException;
+
+        private static AppException invalid(final String message) {
+            return new AppException(message, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public record StoredFile(Path path, long size, String contentHash) {
+    }
+
+    private FileUpload() {
+    }
+
+    /**
+     * Copies {@code upload} to {@code target}, replacing any previous file. On failure, including invalid
+     * content, {@code target} is left untouched and the temporary file is removed.
+     */
+    public static StoredFile store(final InputStream upload, final Path target, final Format format) throws IOException {
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), ".upload-", ".tmp");
+        try {
+            StoredFile stored;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 CopyingInputStream in = new CopyingInputStream(upload, channel)) {
+                format.validate(in);
+                in.transferTo(OutputStream.nullOutputStream());
+                stored = new StoredFile(target, in.size, HexFormat.of().formatHex(in.digest.digest()));
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return stored;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes every byte read through it to the channel and the digest, so validation drives the copy.
+     */
+    private static final class CopyingInputStream extends FilterInputStream {
+
+        private final FileChannel channel;
+        private final MessageDigest digest = FileContent.sha256();
+        private long size;
+
+        CopyingInputStream(final InputStream in, final FileChannel channel) {
+            super(in);
+            this.channel = channel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                digest.update(b, off, read);
+                ByteBuffer buffer = ByteBuffer.wrap(b, off, read);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                size += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            byte[] buffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
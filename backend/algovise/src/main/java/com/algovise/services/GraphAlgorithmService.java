@@ -0,0 +1,198 @@
+package com.algovise.services;
+
+import com.algovise.algorithms.AStar;
+import com.algovise.algorithms.AlgorithmTrace;
+import com.algovise.algorithms.AllPairsMatrix;
+import com.algovise.algorithms.AllPairsShortestPaths;
+import com.algovise.algorithms.BellmanFord;
+import com.algovise.algorithms.Boruvka;
+import com.algovise.algorithms.CsrGraph;
+import com.algovise.algorithms.Dijkstra;
+import com.algovise.algorithms.FloydWarshall;
+import com.algovise.algorithms.Kruskal;
+import com.algovise.algorithms.Landmarks;
+import com.algovise.algorithms.Prim;
+import com.algovise.algorithms.ShortestPathAlgorithm;
+import com.algovise.algorithms.ShortestPathTree;
+import com.algovise.algorithms.SpanningForest;
+import com.algovise.algorithms.SpanningTreeAlgorithm;
+import com.algovise.algorithms.TraceAlgorithm;
+import com.algovise.dtos.ShortestPathDto;
+import com.algovise.dtos.SpanningTreeDto;
+import com.algovise.entities.Graph;
+import com.algovise.exceptions.AppException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+@Service
+@RequiredArgsConstructor
+public class GraphAlgorithmService {
+
+    private static final int MAX_ALL_PAIRS_NODES = 2048;
+    private static final long MAX_CACHED_MATRIX_CELLS = 2L * MAX_ALL_PAIRS_NODES * MAX_ALL_PAIRS_NODES;
+
+    private static final int LANDMARK_COUNT = 16;
+    private static final long MAX_CACHED_LANDMARK_CELLS = 16L * 1024 * 1024;
+
+    private static final String ALL_PAIRS_ALGORITHM = "floyd-warshall";
+
+    private final GraphService graphService;
+    private final GraphResultCache<AllPairs> allPairsCache = new GraphResultCache<>(MAX_CACHED_MATRIX_CELLS);
+    private final GraphResultCache<LandmarkIndex> landmarkCache = new GraphResultCache<>(MAX_CACHED_LANDMARK_CELLS);
+
+    private record AllPairs(long version, CsrGraph snapshot, AllPairsShortestPaths paths) implements GraphResultCache.Entry {
+        @Override
+        public long cells() {
+            return (long) paths.nodeCount() * paths.nodeCount();
+        }
+    }
+
+    private record LandmarkIndex(long version, Landmarks landmarks) implements GraphResultCache.Entry {
+        @Override
+        public long cells() {
+            return landmarks.cells();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CsrGraph getSnapshot(Long graphId, String token) throws IllegalAccessException {
+        return CsrGraph.from(graphService.getFullGraphById(graphId, token));
+    }
+
+    @Transactional(readOnly = true)
+    public ShortestPathDto shortestPath(Long graphId, Long fromNodeId, Long toNodeId, String algorithmName, String token) throws IllegalAccessException {
+        ShortestPathAlgorithm algorithm = ShortestPathAlgorithm.fromParameter(algorithmName)
+                .orElseThrow(() -> new AppException("Unknown shortest path algorithm: " + algorithmName, HttpStatus.BAD_REQUEST));
+        Graph graph = graphService.getFullGraphById(graphId, token);
+        CsrGraph snapshot = CsrGraph.from(graph);
+        int from = nodeIndex(snapshot, fromNodeId);
+        int to = nodeIndex(snapshot, toNodeId);
+        if (algorithm != ShortestPathAlgorithm.BELLMAN_FORD && snapshot.hasNegativeWeights()) {
+            throw new AppException("The " + algorithm.getParameter() + " algorithm requires non-negative edge weights; use "
+                    + ShortestPathAlgorithm.BELLMAN_FORD.getParameter() + " instead", HttpStatus.BAD_REQUEST);
+        }
+
+        ShortestPathTree tree = switch (algorithm) {
+            case DIJKSTRA -> Dijkstra.run(snapshot, from, to);
+            case BELLMAN_FORD -> BellmanFord.run(snapshot, from);
+            case ASTAR -> AStar.run(snapshot, from, to, AStar.euclidean(snapshot, to));
+            case ALT -> AStar.run(snapshot, from, to, getLandmarks(graphId, graph.getVersion(), snapshot).toward(to));
+        };
+        if (tree.hasNegativeCycle()) {
+            StringJoiner cycle = new StringJoiner(" -> ");
+            int[] cycleNodes = tree.negativeCycle();
+            for (int node : cycleNodes) {
+                cycle.add(String.valueOf(snapshot.nodeId(node)));
+            }
+            cycle.add(String.valueOf(snapshot.nodeId(cycleNodes[0])));
+            throw new AppException("Graph contains a negative cycle reachable from node " + fromNodeId + ": " + cycle, HttpStatus.BAD_REQUEST);
+        }
+
+        List<Long> path = new ArrayList<>();
+        for (int node : tree.pathTo(to)) {
+            path.add(snapshot.nodeId(node));
+        }
+        Double distance = tree.hasPathTo(to) ? tree.distanceTo(to) : null;
+        return new ShortestPathDto(algorithm.getParameter(), path, distance);
+    }
+
+    @Transactional(readOnly = true)
+    public SpanningTreeDto spanningTree(Long graphId, String algorithmName, String token) throws IllegalAccessException {
+        SpanningTreeAlgorithm algorithm = SpanningTreeAlgorithm.fromParameter(algorithmName)
+                .orElseThrow(() -> new AppException("Unknown spanning tree algorithm: " + algorithmName, HttpStatus.BAD_REQUEST));
+        CsrGraph snapshot = getSnapshot(graphId, token);
+
+        SpanningForest forest = switch (algorithm) {
+            case KRUSKAL -> Kruskal.run(snapshot);
+            case BORUVKA -> Boruvka.run(snapshot);
+            case PRIM -> Prim.run(snapshot);
+        };
+        List<Long> edgeIds = new ArrayList<>(forest.edgeCount());
+        for (long edgeId : forest.edgeIds()) {
+            edgeIds.add(edgeId);
+        }
+        return new SpanningTreeDto(algorithm.getParameter(), forest.totalWeight(), edgeIds);
+    }
+
+    public AllPairsMatrix allPairs(Long graphId, String token) throws IllegalAccessException {
+        AllPairs allPairs = getAllPairs(graphId, token);
+        return new AllPairsMatrix(allPairs.snapshot(), allPairs.paths());
+    }
+
+    public ShortestPathDto allPairsPath(Long graphId, Long fromNodeId, Long toNodeId, String token) throws IllegalAccessException {
+        AllPairs allPairs = getAllPairs(graphId, token);
+        CsrGraph snapshot = allPairs.snapshot();
+        int from = nodeIndex(snapshot, fromNodeId);
+        int to = nodeIndex(snapshot, toNodeId);
+
+        List<Long> path = new ArrayList<>();
+        for (int node : allPairs.paths().path(from, to)) {
+            path.add(snapshot.nodeId(node));
+        }
+        Double distance = path.isEmpty() ? null : allPairs.paths().distance(from, to);
+        return new ShortestPathDto(ALL_PAIRS_ALGORITHM, path, distance);
+    }
+
+    /**
+     * Floyd-Warshall result for the current version of the graph. Once computed, later calls only read the
+     * graph version. Not transactional so the matrix is not computed while holding a connection.
+     */
+    private AllPairs getAllPairs(Long graphId, String token) throws IllegalAccessException {
+        Optional<Long> version = graphService.findGraphVersion(graphId, token);
+        if (version.isPresent()) {
+            AllPairs cached = allPairsCache.get(graphId, version.get());
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Graph graph = graphService.getFullGraphById(graphId, token);
+        CsrGraph snapshot = CsrGraph.from(graph);
+        if (snapshot.nodeCount() > MAX_ALL_PAIRS_NODES) {
+            throw new AppException("All-pairs shortest paths are limited to " + MAX_ALL_PAIRS_NODES + " nodes", HttpStatus.BAD_REQUEST);
+        }
+        AllPairsShortestPaths paths = FloydWarshall.run(snapshot);
+        if (paths.hasNegativeCycle()) {
+            throw new AppException("Graph contains a negative cycle", HttpStatus.BAD_REQUEST);
+        }
+        AllPairs entry = new AllPairs(graph.getVersion(), snapshot, paths);
+        allPairsCache.put(graphId, entry);
+        return entry;
+    }
+
+    /**
+     * Landmark tables for the given version of the graph, selected on first use and kept until the graph changes.
+     */
+    private Landmarks getLandmarks(Long graphId, long version, CsrGraph snapshot) {
+        LandmarkIndex cached = landmarkCache.get(graphId, version);
+        if (cached != null) {
+            return cached.landmarks();
+        }
+        Landmarks landmarks = Landmarks.select(snapshot, LANDMARK_COUNT);
+        landmarkCache.put(graphId, new LandmarkIndex(version, landmarks));
+        return landmarks;
+    }
+
+    @Transactional(readOnly = true)
+    public AlgorithmTrace trace(Long graphId, String algorithmName, Long fromNodeId, String token) throws IllegalAccessException {
+        TraceAlgorithm algorithm = TraceAlgorithm.fromParameter(algorithmName)
+                .orElseThrow(() -> new AppException("Unknown traceable algorithm: " + algorithmName, HttpStatus.BAD_REQUEST));
+        CsrGraph snapshot = getSnapshot(graphId, token);
+        return new AlgorithmTrace(snapshot, algorithm, nodeIndex(snapshot, fromNodeId));
+    }
+
+    public int nodeIndex(CsrGraph snapshot, Long nodeId) {
+        int index = snapshot.indexOf(nodeId);
+        if (index < 0) {
+            throw new AppException("Node " + nodeId + " does not belong to the graph", HttpStatus.BAD_REQUEST);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,49 @@
+package com.algovise.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Least-recently-used cache of precomputed graph results keyed by graph id, bounded by the total number of cells
+ * the results hold. An entry only answers for the graph version it was computed from, so any change to the graph
+ * makes it stale.
+ */
+final class GraphResultCache<E extends GraphResultCache.Entry> {
+
+    interface Entry {
+        long version();
+
+        long cells();
+    }
+
+    private final long maxCells;
+    private final LinkedHashMap<Long, E> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedCells;
+
+    GraphResultCache(final long maxCells) {
+        this.maxCells = maxCells;
+    }
+
+    synchronized E get(final Long graphId, final long version) {
+        E entry = entries.get(graphId);
+        return entry != null && entry.version() == version ? entry : null;
+    }
+
+    synchronized void put(final Long graphId, final E entry) {
+        E previous = entries.remove(graphId);
+        if (previous != null) {
+            cachedCells -= previous.cells();
+        }
+        if (entry.cells() > maxCells) {
+            return;
+        }
+        entries.put(graphId, entry);
+        cachedCells += entry.cells();
+
+        Iterator<E> eldest = entries.values().iterator();
+        while (cachedCells > maxCells && eldest.hasNext()) {
+            cachedCells -= eldest.next().cells();
+            eldest.remove();
+        }
+    }
+}
@@ -2,25 +2,35 @@ package com.algovise.services;
 
 import com.algovise.configs.UserAuthenticationProvider;
 import com.algovise.dtos.EdgeDto;
+import com.algovise.dtos.GraphChangeSetDto;
+import com.algovise.dtos.GraphContentsDto;
+import com.algovise.dtos.GraphSummaryDto;
+import com.algovise.dtos.GraphSummaryPageDto;
+import com.algovise.dtos.GraphSyncResultDto;
+import com.algovise.dtos.NodeDto;
 import com.algovise.entities.Edge;
 import com.algovise.entities.Graph;
 import com.algovise.entities.Node;
+import com.algovise.exceptions.AppException;
 import com.algovise.repositories.EdgeRepository;
 import com.algovise.repositories.GraphRepository;
 import com.algovise.repositories.NodeRepository;
 import com.algovise.repositories.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
-import org.springframework.security.web.authentication.Http403ForbiddenEntryPoint;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.management.openmbean.KeyAlreadyExistsException;
 import java.util.*;
 
 @Service
 @AllArgsConstructor
 public class GraphService {
 
+    private static final int MAX_SUMMARY_PAGE_SIZE = 200;
+
     private GraphRepository graphRepository;
 
     private NodeRepository nodeRepository;
@@ -31,8 +41,52 @@ public class GraphService {
 
     private UserRepository userRepository;
 
+    @Transactional(readOnly = true)
     public List<Graph> getAllGraphs(String token) {
-        return graphRepository.findByUserId(userAuthenticationProvider.getUserIdByToken(token));
+        List<Graph> graphs = graphRepository.findWithNodesByUserIdOrderById(userAuthenticationProvider.getUserIdByToken(token));
+        fetchEdges(graphs);
+        return graphs;
+    }
+
+    @Transactional(readOnly = true)
+    public GraphSummaryPageDto getGraphSummaries(Long afterId, int limit, String token) {
+        Long userId = userAuthenticationProvider.getUserIdByToken(token);
+        int pageSize = Math.max(1, Math.min(limit, MAX_SUMMARY_PAGE_SIZE));
+        List<GraphSummaryDto> summaries = graphRepository.findSummariesByUserIdAfter(
+                userId, afterId != null ? afterId : 0L, Limit.of(pageSize + 1));
+
+        Long nextCursor = null;
+        if (summaries.size() > pageSize) {
+            summaries = summaries.subList(0, pageSize);
+            nextCursor = summaries.get(pageSize - 1).getId();
+        }
+        return new GraphSummaryPageDto(summaries, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public Graph getFullGraphById(Long id, String token) throws IllegalAccessException {
+        Long userId = userAuthenticationProvider.getUserIdByToken(token);
+        Graph graph = graphRepository.findWithNodesById(id).orElseThrow();
+        if(!graph.getUser().getId().equals(userId))
+        {
+            throw new IllegalAccessException("Trying to modify graph of someone else!");
+        }
+        fetchEdges(List.of(graph));
+        return graph;
+    }
+
+    /**
+     * Version of the caller's graph, or empty when the graph does not exist or belongs to someone else.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findGraphVersion(Long id, String token) {
+        return graphRepository.findVersionByIdAndUserId(id, userAuthenticationProvider.getUserIdByToken(token));
+    }
+
+    private void fetchEdges(List<Graph> graphs) {
+        if (!graphs.isEmpty()) {
+            graphRepository.findWithEdgesByIdIn(graphs.stream().map(Graph::getId).toList());
+        }
     }
 
     public Graph getGraphById(Long id, String token) throws IllegalAccessException {
@@ -46,7 +100,23 @@ public class GraphService {
         return graph;
     }
 
-    public Graph createGraph(Graph graph, String token) throws IllegalAccessException {
+    private Graph getGraphForUpdate(Long id, String token) throws IllegalAccessException {
+        Long userId = userAuthenticationProvider.getUserIdByToken(token);
+        Graph graph = graphRepository.findForUpdateById(id).orElseThrow();
+        if(!graph.getUser().getId().equals(userId))
+        {
+            throw new IllegalAccessException("Trying to modify graph of someone else!");
+        }
+        return graph;
+    }
+
+    /**
+     * Saves a new graph, or the name and flags of an existing one. Since the flags change what the algorithms
+     * compute, such an update is a modification like any other: it bumps the version and is rejected when
+     * {@code baseVersion} is given and outdated.
+     */
+    @Transactional
+    public Graph createGraph(Graph graph, Long baseVersion, String token) throws IllegalAccessException {
         Long userId = userAuthenticationProvider.getUserIdByToken(token);
         if (graph.getId() != null) {
             if(graph.getUser() == null)
@@ -55,7 +125,7 @@ public class GraphService {
             }
             if(Objects.equals(graph.getUser().getId(), userId))
             {
-                return updateExistingGraph(graph);
+                return updateExistingGraph(graph, baseVersion);
             }
             else
             {
@@ -68,11 +138,13 @@ public class GraphService {
         }
     }
 
-    private Graph updateExistingGraph(Graph graph) {
-        Optional<Graph> existingGraphOpt = graphRepository.findById(graph.getId());
+    private Graph updateExistingGraph(Graph graph, Long baseVersion) {
+        Optional<Graph> existingGraphOpt = graphRepository.findForUpdateById(graph.getId());
         if (existingGraphOpt.isPresent()) {
             Graph existingGraph = existingGraphOpt.get();
+            checkBaseVersion(existingGraph, baseVersion);
             updateGraphFields(existingGraph, graph);
+            markModified(existingGraph);
             return graphRepository.save(existingGraph);
         }
         throw new EntityNotFoundException("Graph with ID " + graph.getId() + " not found");
@@ -90,104 +162,318 @@ public class GraphService {
         existingGraph.setWeighted(newGraph.isWeighted());
     }
 
-    public Node addNodeToGraph(Long graphId, Node node, String token) throws IllegalAccessException {
-        Long userId = userAuthenticationProvider.getUserIdByToken(token);
-        Graph graph = getGraphById(graphId, token);
-        if(!graph.getUser().getId().equals(userId))
-        {
-            throw new IllegalAccessException("Trying to modify graph of someone else!");
+    private void updateNodeFields(Node existingNode, Node newNode) {
+        existingNode.setLabel(newNode.getLabel());
+        if (newNode.getX() != null) {
+            existingNode.setX(newNode.getX());
         }
-        node.setGraph(graph);
+        if (newNode.getY() != null) {
+            existingNode.setY(newNode.getY());
+        }
+    }
 
-        if (node.getId() != null && (node.getId() > 0)) {
-            return updateExistingNode(node);
-        } else {
-            return saveNewNode(graph, node);
+    @Transactional
+    public List<Node> addNodesToGraph(Long graphId, List<Node> nodes, String token) throws IllegalAccessException {
+        Graph graph = getGraphForUpdate(graphId, token);
+
+        Map<Long, Node> existingNodesById = new HashMap<>();
+        Map<String, Node> existingNodesByLabel = new HashMap<>();
+        for (Node existingNode : graph.getNodes()) {
+            existingNodesById.put(existingNode.getId(), existingNode);
+            existingNodesByLabel.putIfAbsent(existingNode.getLabel(), existingNode);
         }
+
+        List<Node> savedNodes = new ArrayList<>(nodes.size());
+        List<Node> newNodes = new ArrayList<>();
+        for (Node node : nodes) {
+            if (node.getId() != null && node.getId() > 0) {
+                Node existingNode = existingNodesById.get(node.getId());
+                if (existingNode == null) {
+                    throw new EntityNotFoundException("Node with ID " + node.getId() + " not found");
+                }
+                updateNodeFields(existingNode, node);
+                savedNodes.add(existingNode);
+                continue;
+            }
+
+            Node sameLabelNode = existingNodesByLabel.get(node.getLabel());
+            if (sameLabelNode != null) {
+                savedNodes.add(sameLabelNode);
+                continue;
+            }
+            node.setId(null);
+            node.setGraph(graph);
+            existingNodesByLabel.put(node.getLabel(), node);
+            newNodes.add(node);
+            savedNodes.add(node);
+        }
+
+        nodeRepository.saveAll(newNodes);
+        graph.getNodes().addAll(newNodes);
+        markModified(graph);
+        return savedNodes;
     }
 
-    private Node updateExistingNode(Node node) {
-        Optional<Node> existingNodeOpt = nodeRepository.findById(node.getId());
-        if (existingNodeOpt.isPresent()) {
-            Node existingNode = existingNodeOpt.get();
-            updateNodeFields(existingNode, node);
-            return nodeRepository.save(existingNode);
+    /**
+     * Makes {@code edgeDtos} the complete edge list of the graph. Stored edges missing from it are removed with one
+     * set-based delete before the remaining edges are saved; nodes are left alone, so isolated nodes survive.
+     */
+    @Transactional
+    public List<Edge> replaceEdges(Long graphId, List<EdgeDto> edgeDtos, String token) throws IllegalAccessException {
+        Graph graph = getGraphForUpdate(graphId, token);
+
+        Set<Long> keptEdgeIds = new HashSet<>();
+        for (EdgeDto edgeDto : edgeDtos) {
+            keptEdgeIds.add(edgeDto.getId());
         }
-        throw new EntityNotFoundException("Node with ID " + node.getId() + " not found");
+        deleteElements(graphId, List.of(), idsNotIn(edgeRepository.findIdsByGraphId(graphId), keptEdgeIds));
+
+        List<Edge> savedEdges = saveEdges(graph, edgeDtos);
+        markModified(graph);
+        return savedEdges;
     }
 
-    private Node saveNewNode(Graph graph, Node node) {
-        for(Node existingNode : graph.getNodes())
-        {
-            if(node.getLabel().equals(existingNode.getLabel()))
-            {
-                return existingNode;
+    private List<Edge> saveEdges(Graph graph, List<EdgeDto> edgeDtos) {
+        Map<Long, Node> nodesById = new HashMap<>();
+        for (Node node : graph.getNodes()) {
+            nodesById.put(node.getId(), node);
+        }
+        Map<Long, Edge> existingEdgesById = new HashMap<>();
+        for (Edge edge : graph.getEdges()) {
+            existingEdgesById.put(edge.getId(), edge);
+        }
+
+        List<Edge> savedEdges = new ArrayList<>(edgeDtos.size());
+        List<Edge> newEdges = new ArrayList<>();
+        for (EdgeDto edgeDto : edgeDtos) {
+            Node source = nodesById.get(edgeDto.getSourceId());
+            Node target = nodesById.get(edgeDto.getTargetId());
+            if (source == null || target == null) {
+                throw new IllegalArgumentException("Source or Target nodes do not belong to the specified graph");
             }
+
+            Edge edge;
+            if (edgeDto.getId() != null && edgeDto.getId() > 0) {
+                edge = existingEdgesById.get(edgeDto.getId());
+                if (edge == null) {
+                    throw new EntityNotFoundException("Edge with ID " + edgeDto.getId() + " not found");
+                }
+            } else {
+                edge = new Edge();
+                edge.setGraph(graph);
+                newEdges.add(edge);
+            }
+            edge.setSource(source);
+            edge.setTarget(target);
+            edge.setWeight(edgeDto.getWeight());
+            savedEdges.add(edge);
         }
-        Node savedNode = nodeRepository.save(node);
-        graph.getNodes().add(savedNode);
-        graphRepository.save(graph);
-        return savedNode;
+
+        edgeRepository.saveAll(newEdges);
+        graph.getEdges().addAll(newEdges);
+        return savedEdges;
     }
 
-    private void updateNodeFields(Node existingNode, Node newNode) {
-        existingNode.setLabel(newNode.getLabel());
+    /**
+     * Applies a client-side diff in one transaction. The graph row is locked for the duration, so a change set
+     * built against an outdated {@code baseVersion} is rejected instead of silently overwriting newer edits.
+     */
+    @Transactional
+    public GraphSyncResultDto applyChanges(Long graphId, GraphChangeSetDto changes, String token) throws IllegalAccessException {
+        Graph graph = getGraphForUpdate(graphId, token);
+        checkBaseVersion(graph, changes.getBaseVersion());
+        return applyChangeSet(graph, changes);
     }
 
-    public Edge addEdgeToGraph(Long graphId, EdgeDto edgeDto, String token) throws IllegalAccessException {
-        Graph graph = getGraphById(graphId, token);
-        if(graph.isWeighted())
-        {
-            edgeDto.setWeight(0.0);
+    /**
+     * Saves a complete client-side edit of the graph in one transaction: the difference to the stored graph
+     * is derived from the submitted ids and applied as a change set.
+     */
+    @Transactional
+    public GraphSyncResultDto replaceContents(Long graphId, GraphContentsDto contents, String token) throws IllegalAccessException {
+        Graph graph = getGraphForUpdate(graphId, token);
+        checkBaseVersion(graph, contents.getBaseVersion());
+
+        List<NodeDto> addedNodes = new ArrayList<>();
+        List<NodeDto> updatedNodes = new ArrayList<>();
+        Set<Long> keptNodeIds = new HashSet<>();
+        for (NodeDto nodeDto : listOrEmpty(contents.getNodes())) {
+            if (isPersisted(nodeDto.getId())) {
+                updatedNodes.add(nodeDto);
+                keptNodeIds.add(nodeDto.getId());
+            } else {
+                addedNodes.add(nodeDto);
+            }
         }
-
-        if (edgeDto.getId() > 0) {
-            return updateExistingEdge(edgeDto);
-        } else {
-            return saveNewEdge(graph, edgeDto);
+        List<EdgeDto> addedEdges = new ArrayList<>();
+        List<EdgeDto> updatedEdges = new ArrayList<>();
+        Set<Long> keptEdgeIds = new HashSet<>();
+        for (EdgeDto edgeDto : listOrEmpty(contents.getEdges())) {
+            if (isPersisted(edgeDto.getId())) {
+                updatedEdges.add(edgeDto);
+                keptEdgeIds.add(edgeDto.getId());
+            } else {
+                addedEdges.add(edgeDto);
+            }
         }
+
+        return applyChangeSet(graph, GraphChangeSetDto.builder()
+                .addedNodes(addedNodes)
+                .updatedNodes(updatedNodes)
+                .removedNodeIds(idsNotIn(nodeRepository.findIdsByGraphId(graphId), keptNodeIds))
+                .addedEdges(addedEdges)
+                .updatedEdges(updatedEdges)
+                .removedEdgeIds(idsNotIn(edgeRepository.findIdsByGraphId(graphId), keptEdgeIds))
+                .build());
     }
 
-    private Edge updateExistingEdge(EdgeDto edgeDto) {
-        Optional<Edge> existingEdgeOpt = edgeRepository.findById(edgeDto.getId());
-        if (existingEdgeOpt.isPresent()) {
-            Edge existingEdge = existingEdgeOpt.get();
-            updateEdgeFields(existingEdge, edgeDto);
-            return edgeRepository.save(existingEdge);
+    private void checkBaseVersion(Graph graph, Long baseVersion) {
+        if (baseVersion != null && baseVersion != graph.getVersion()) {
+            throw new AppException("Graph " + graph.getId() + " was modified since version " + baseVersion
+                    + ", current version is " + graph.getVersion(), HttpStatus.CONFLICT);
         }
-        throw new EntityNotFoundException("Edge with ID " + edgeDto.getId() + " not found");
     }
 
-    private Edge saveNewEdge(Graph graph, EdgeDto edgeDto) {
-        Edge edge = new Edge();
-        edge.setGraph(graph);
-        edge.setSource(getNodeById(edgeDto.getSourceId()));
-        edge.setTarget(getNodeById(edgeDto.getTargetId()));
-        edge.setWeight(edgeDto.getWeight());
+    private GraphSyncResultDto applyChangeSet(Graph graph, GraphChangeSetDto changes) {
+        Long graphId = graph.getId();
+        List<NodeDto> addedNodes = listOrEmpty(changes.getAddedNodes());
+        List<NodeDto> updatedNodes = listOrEmpty(changes.getUpdatedNodes());
+        List<EdgeDto> addedEdges = listOrEmpty(changes.getAddedEdges());
+        List<EdgeDto> updatedEdges = listOrEmpty(changes.getUpdatedEdges());
 
-        Node sourceNode = getNodeById(edge.getSource().getId());
-        Node targetNode = getNodeById(edge.getTarget().getId());
+        deleteElements(graphId, listOrEmpty(changes.getRemovedNodeIds()), listOrEmpty(changes.getRemovedEdgeIds()));
 
-        if (!sourceNode.getGraph().getId().equals(graph.getId()) || !targetNode.getGraph().getId().equals(graph.getId())) {
-            throw new IllegalArgumentException("Source or Target nodes do not belong to the specified graph");
+        Set<Long> persistedNodeIds = new HashSet<>();
+        for (NodeDto nodeDto : updatedNodes) {
+            persistedNodeIds.add(nodeDto.getId());
+        }
+        for (EdgeDto edgeDto : addedEdges) {
+            collectPersistedEndpoints(edgeDto, persistedNodeIds);
+        }
+        for (EdgeDto edgeDto : updatedEdges) {
+            collectPersistedEndpoints(edgeDto, persistedNodeIds);
+        }
+        Map<Long, Node> nodesById = new HashMap<>();
+        if (!persistedNodeIds.isEmpty()) {
+            for (Node node : nodeRepository.findByGraphIdAndIdIn(graphId, persistedNodeIds)) {
+                nodesById.put(node.getId(), node);
+            }
+        }
+
+        for (NodeDto nodeDto : updatedNodes) {
+            Node node = nodesById.get(nodeDto.getId());
+            if (node == null) {
+                throw new EntityNotFoundException("Node with ID " + nodeDto.getId() + " not found");
+            }
+            node.setLabel(nodeDto.getLabel());
+            // the editor does not track positions, so a node sent without coordinates keeps its stored ones
+            if (nodeDto.getX() != null) {
+                node.setX(nodeDto.getX());
+            }
+            if (nodeDto.getY() != null) {
+                node.setY(nodeDto.getY());
+            }
+        }
+
+        List<Node> newNodes = new ArrayList<>(addedNodes.size());
+        for (NodeDto nodeDto : addedNodes) {
+            Node node = new Node();
+            node.setLabel(nodeDto.getLabel());
+            node.setX(nodeDto.getX());
+            node.setY(nodeDto.getY());
+            node.setGraph(graph);
+            newNodes.add(node);
+            if (nodeDto.getId() != null) {
+                nodesById.put(nodeDto.getId(), node);
+            }
+        }
+        nodeRepository.saveAll(newNodes);
+
+        Map<Long, Edge> edgesById = new HashMap<>();
+        if (!updatedEdges.isEmpty()) {
+            List<Long> updatedEdgeIds = updatedEdges.stream().map(EdgeDto::getId).toList();
+            for (Edge edge : edgeRepository.findByGraphIdAndIdIn(graphId, updatedEdgeIds)) {
+                edgesById.put(edge.getId(), edge);
+            }
+        }
+        for (EdgeDto edgeDto : updatedEdges) {
+            Edge edge = edgesById.get(edgeDto.getId());
+            if (edge == null) {
+                throw new EntityNotFoundException("Edge with ID " + edgeDto.getId() + " not found");
+            }
+            setEdgeFields(edge, edgeDto, nodesById);
+        }
+
+        List<Edge> newEdges = new ArrayList<>(addedEdges.size());
+        for (EdgeDto edgeDto : addedEdges) {
+            Edge edge = new Edge();
+            edge.setGraph(graph);
+            setEdgeFields(edge, edgeDto, nodesById);
+            newEdges.add(edge);
+        }
+        edgeRepository.saveAll(newEdges);
+
+        Map<Long, Long> nodeIds = new HashMap<>();
+        for (int i = 0; i < addedNodes.size(); i++) {
+            if (addedNodes.get(i).getId() != null) {
+                nodeIds.put(addedNodes.get(i).getId(), newNodes.get(i).getId());
+            }
+        }
+        Map<Long, Long> edgeIds = new HashMap<>();
+        for (int i = 0; i < addedEdges.size(); i++) {
+            if (addedEdges.get(i).getId() != null) {
+                edgeIds.put(addedEdges.get(i).getId(), newEdges.get(i).getId());
+            }
         }
 
-        Edge savedEdge = edgeRepository.save(edge);
-        graph.getEdges().add(savedEdge);
-        graphRepository.save(graph);
-        return savedEdge;
+        markModified(graph);
+        return new GraphSyncResultDto(graph.getVersion(), nodeIds, edgeIds);
+    }
+
+    private void deleteElements(Long graphId, Collection<Long> removedNodeIds, Collection<Long> removedEdgeIds) {
+        if (!removedEdgeIds.isEmpty()) {
+            edgeRepository.deleteByGraphIdAndIdIn(graphId, removedEdgeIds);
+        }
+        if (!removedNodeIds.isEmpty()) {
+            edgeRepository.deleteByGraphIdAndNodeIdIn(graphId, removedNodeIds);
+            nodeRepository.deleteByGraphIdAndIdIn(graphId, removedNodeIds);
+        }
     }
 
-    private void updateEdgeFields(Edge existingEdge, EdgeDto edgeDto) {
-        existingEdge.setSource(getNodeById(edgeDto.getSourceId()));
-        existingEdge.setTarget(getNodeById(edgeDto.getTargetId()));
-        existingEdge.setWeight(edgeDto.getWeight());
+    private static List<Long> idsNotIn(List<Long> ids, Set<Long> keptIds) {
+        return ids.stream().filter(id -> !keptIds.contains(id)).toList();
     }
 
+    private static boolean isPersisted(Long id) {
+        return id != null && id > 0;
+    }
 
-    private Node getNodeById(Long nodeId) {
-        return nodeRepository.findById(nodeId)
-                .orElseThrow(() -> new RuntimeException("Node not found with id: " + nodeId));
+    private static void collectPersistedEndpoints(EdgeDto edgeDto, Set<Long> nodeIds) {
+        if (isPersisted(edgeDto.getSourceId())) {
+            nodeIds.add(edgeDto.getSourceId());
+        }
+        if (isPersisted(edgeDto.getTargetId())) {
+            nodeIds.add(edgeDto.getTargetId());
+        }
+    }
+
+    private static void setEdgeFields(Edge edge, EdgeDto edgeDto, Map<Long, Node> nodesById) {
+        Node source = nodesById.get(edgeDto.getSourceId());
+        Node target = nodesById.get(edgeDto.getTargetId());
+        if (source == null || target == null) {
+            throw new IllegalArgumentException("Source or Target nodes do not belong to the specified graph");
+        }
+        edge.setSource(source);
+        edge.setTarget(target);
+        edge.setWeight(edgeDto.getWeight());
+    }
+
+    private static <T> List<T> listOrEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    private static void markModified(Graph graph) {
+        graph.setVersion(graph.getVersion() + 1);
     }
 
     public Graph updateGraph(Long id, Graph updatedGraph, String token) throws IllegalAccessException {
@@ -201,6 +487,7 @@ public class GraphService {
         graph.setWeighted(updatedGraph.isWeighted());
         graph.setNodes(updatedGraph.getNodes());
         graph.setEdges(updatedGraph.getEdges());
+        markModified(graph);
         return graphRepository.save(graph);
     }
 
@@ -213,19 +500,4 @@ public class GraphService {
         }
         graphRepository.deleteById(id);
     }
-
-    public Optional<Graph> findGraphById(Long graphId) {
-        return graphRepository.findById(graphId);
-    }
-
-    public void removeNode(Long nodeId) {
-        nodeRepository.deleteById(nodeId);
-    }
-
-    public void removeEdges(Set<Long> idsOfEdgesToBeRemoved) {
-        for(Long edgeId : idsOfEdgesToBeRemoved)
-        {
-            edgeRepository.deleteById(edgeId);
-        }
-    }
 }
@@ -0,0 +1,92 @@
+package com.algovise.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-compressed copy of an uploaded file, stored next to it with a {@code .gz} suffix.
+ * It is written once at upload so downloads cost no compression work.
+ */
+public final class GzipVariant {
+
+    public static final String ENCODING = "gzip";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Appended to the entity tag of the compressed representation, which must differ from the identity one.
+     */
+    public static final String ETAG_SUFFIX = "-gzip";
+
+    private GzipVariant() {
+    }
+
+    public static Path pathOf(final Path file) {
+        return file.resolveSibling(file.getFileName() + ".gz");
+    }
+
+    /**
+     * Compresses {@code file} next to it, streaming through a temporary file that is moved into place.
+     * When compression does not make the file smaller no variant is kept, so it is always served as is.
+     */
+    public static void write(final Path file) throws IOException {
+        Path variant = pathOf(file);
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), ".gzip-", ".tmp");
+        try {
+            try (InputStream in = Files.newInputStream(file);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+                in.transferTo(out);
+            }
+            if (Files.size(temp) < Files.size(file)) {
+                Files.move(temp, variant, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(variant);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static void delete(final Path file) throws IOException {
+        Files.deleteIfExists(pathOf(file));
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header value allows gzip, i.e. lists {@code gzip} without a zero
+     * quality. {@code *} only applies when gzip is not listed itself, so {@code *, gzip;q=0} refuses it.
+     */
+    public static boolean isAccepted(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = parts.length < 2 || !isZeroQuality(parts[1].trim());
+            if (name.equalsIgnoreCase(ENCODING)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZeroQuality(final String parameter) {
+        if (!parameter.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(parameter.substring(2)) == 0.0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
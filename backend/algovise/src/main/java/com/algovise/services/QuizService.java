@@ -3,22 +3,31 @@ package com.algovise.services;
 import com.algovise.dtos.QuizDto;
 import com.algovise.entities.Quiz;
 import com.algovise.repositories.QuizRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 public class QuizService {
+    private static final long MAX_CACHED_CONTENT_BYTES = 32L * 1024 * 1024;
+
     private final QuizRepository quizRepository;
+    private final FileContentCache contentCache = new FileContentCache(MAX_CACHED_CONTENT_BYTES);
+    private final CatalogCache catalogCache;
 
-    public QuizService(QuizRepository quizRepository) {
+    public QuizService(QuizRepository quizRepository, ObjectMapper objectMapper) {
         this.quizRepository = quizRepository;
+        this.catalogCache = new CatalogCache(objectMapper, this::getAllQuizzes);
     }
 
     public List<QuizDto> getAllQuizzes() {
@@ -27,19 +36,66 @@ public class QuizService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The catalog as served by the list endpoint, read from the database only after it has changed.
+     */
+    public CatalogSnapshot getQuizCatalog() {
+        return catalogCache.get();
+    }
+
     public String getQuizContent(Long id) throws IOException {
+        return new String(getQuizFile(id).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Content and validators of the quiz file. Small files are served from memory after the first read
+     * and their bytes are shared; larger ones are streamed from disk on every request.
+     */
+    public FileContent getQuizFile(Long id) throws IOException {
+        FileContent cached = contentCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = contentCache.generation();
         Quiz quiz = quizRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Quiz not found"));
         Path filePath = Paths.get(quiz.getFilePath());
-        return Files.readString(filePath);
+        long length = Files.size(filePath);
+        byte[] bytes = contentCache.accepts(length) ? Files.readAllBytes(filePath) : null;
+        if (quiz.getContentHash() == null) {
+            quiz.setContentHash(bytes != null ? FileContent.hashOf(bytes) : FileContent.hashOf(filePath));
+            quiz.setLastModified(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+            quizRepository.save(quiz);
+        }
+        Path gzipPath = GzipVariant.pathOf(filePath);
+        boolean gzipped = Files.exists(gzipPath);
+        byte[] gzipBytes = bytes != null && gzipped ? Files.readAllBytes(gzipPath) : null;
+        FileContent content = new FileContent(filePath, bytes, length, quiz.getContentHash(), quiz.getLastModified(),
+                gzipped ? gzipPath : null, gzipBytes);
+        contentCache.putIfUnchanged(id, quiz.getFilePath(), content, loadedAt);
+        return content;
     }
 
-    public void saveQuiz(String title, String filePath) {
-        Quiz quiz = new Quiz();
-        quiz.setTitle(title);
-        quiz.setFilePath(filePath);
-
-        quizRepository.save(quiz);
+    /**
+     * Records an uploaded quiz file. An upload to the path of an existing quiz replaces it, so its id serves the
+     * new file under a new hash and timestamp instead of a second row pointing at the same file. Rows left over from
+     * before uploads were matched by path all serve that one file, so every one of them takes the new title as well.
+     */
+    public void saveQuiz(String title, String filePath, String contentHash) {
+        List<Quiz> quizzes = quizRepository.findByFilePath(filePath);
+        if (quizzes.isEmpty()) {
+            quizzes = List.of(new Quiz());
+        }
+        Instant lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        for (Quiz quiz : quizzes) {
+            quiz.setTitle(title);
+            quiz.setFilePath(filePath);
+            quiz.setContentHash(contentHash);
+            quiz.setLastModified(lastModified);
+            quizRepository.save(quiz);
+        }
+        contentCache.evictPath(filePath);
+        catalogCache.invalidate();
     }
 
     public String getQuizFilePath(Long quizId) {
@@ -50,6 +106,8 @@ public class QuizService {
 
     public void deleteQuiz(Long quizId) {
         quizRepository.deleteById(quizId);
+        contentCache.evict(quizId);
+        catalogCache.invalidate();
     }
 
 }
@@ -3,21 +3,30 @@ package com.algovise.services;
 import com.algovise.dtos.TutorialDto;
 import com.algovise.entities.Tutorial;
 import com.algovise.repositories.TutorialRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 public class TutorialService {
+    private static final long MAX_CACHED_CONTENT_BYTES = 32L * 1024 * 1024;
+
     private final TutorialRepository tutorialRepository;
+    private final FileContentCache contentCache = new FileContentCache(MAX_CACHED_CONTENT_BYTES);
+    private final CatalogCache catalogCache;
 
-    public TutorialService(TutorialRepository TutorialRepository) {
+    public TutorialService(TutorialRepository TutorialRepository, ObjectMapper objectMapper) {
         this.tutorialRepository = TutorialRepository;
+        this.catalogCache = new CatalogCache(objectMapper, this::getAllTutorials);
     }
 
     public List<TutorialDto> getAllTutorials() {
@@ -26,19 +35,66 @@ public class TutorialService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The catalog as served by the list endpoint, read from the database only after it has changed.
+     */
+    public CatalogSnapshot getTutorialCatalog() {
+        return catalogCache.get();
+    }
+
     public String getTutorialContent(Long id) throws IOException {
+        return new String(getTutorialFile(id).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Content and validators of the tutorial file. Small files are served from memory after the first read
+     * and their bytes are shared; larger ones are streamed from disk on every request.
+     */
+    public FileContent getTutorialFile(Long id) throws IOException {
+        FileContent cached = contentCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = contentCache.generation();
         Tutorial tutorial = tutorialRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tutorial not found"));
         Path filePath = Paths.get(tutorial.getFilePath());
-        return Files.readString(filePath);
+        long length = Files.size(filePath);
+        byte[] bytes = contentCache.accepts(length) ? Files.readAllBytes(filePath) : null;
+        if (tutorial.getContentHash() == null) {
+            tutorial.setContentHash(bytes != null ? FileContent.hashOf(bytes) : FileContent.hashOf(filePath));
+            tutorial.setLastModified(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+            tutorialRepository.save(tutorial);
+        }
+        Path gzipPath = GzipVariant.pathOf(filePath);
+        boolean gzipped = Files.exists(gzipPath);
+        byte[] gzipBytes = bytes != null && gzipped ? Files.readAllBytes(gzipPath) : null;
+        FileContent content = new FileContent(filePath, bytes, length, tutorial.getContentHash(), tutorial.getLastModified(),
+                gzipped ? gzipPath : null, gzipBytes);
+        contentCache.putIfUnchanged(id, tutorial.getFilePath(), content, loadedAt);
+        return content;
     }
 
-    public void saveTutorial(String title, String filePath) {
-        Tutorial tutorial = new Tutorial();
-        tutorial.setTitle(title);
-        tutorial.setFilePath(filePath);
-
-        tutorialRepository.save(tutorial);
+    /**
+     * Records an uploaded tutorial file. An upload to the path of an existing tutorial replaces it, so its id serves the
+     * new file under a new hash and timestamp instead of a second row pointing at the same file. Rows left over from
+     * before uploads were matched by path all serve that one file, so every one of them takes the new title as well.
+     */
+    public void saveTutorial(String title, String filePath, String contentHash) {
+        List<Tutorial> tutorials = tutorialRepository.findByFilePath(filePath);
+        if (tutorials.isEmpty()) {
+            tutorials = List.of(new Tutorial());
+        }
+        Instant lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        for (Tutorial tutorial : tutorials) {
+            tutorial.setTitle(title);
+            tutorial.setFilePath(filePath);
+            tutorial.setContentHash(contentHash);
+            tutorial.setLastModified(lastModified);
+            tutorialRepository.save(tutorial);
+        }
+        contentCache.evictPath(filePath);
+        catalogCache.invalidate();
     }
     public String getTutorialFilePath(Long tutorialId) {
         return tutorialRepository.findById(tutorialId)
@@ -47,5 +103,7 @@ public class TutorialService {
     }
     public void deleteTutorial(Long tutorialId) {
         tutorialRepository.deleteById(tutorialId);
+        contentCache.evict(tutorialId);
+        catalogCache.invalidate();
     }
 }
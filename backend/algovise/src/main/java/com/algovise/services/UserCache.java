@@ -0,0 +1,95 @@
+package com.algovise.services;
+
+import com.algovise.dtos.CacheStatisticsDto;
+import com.algovise.dtos.UserDto;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Least-recently-used cache of {@link UserDto}s reachable by id and by name. Both indices are updated under
+ * one lock so a rename can never leave the old name pointing at the user. Entries are copied on the way in
+ * and out because callers set tokens on the DTOs they get back. Every eviction bumps a generation so a user
+ * loaded from the database before a concurrent change cannot be cached after it.
+ */
+final class UserCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<Long, UserDto> usersById;
+    private final Map<String, Long> idsByName = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long generation;
+
+    UserCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.usersById = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    synchronized UserDto getById(final Long id) {
+        return record(usersById.get(id));
+    }
+
+    synchronized UserDto getByName(final String name) {
+        Long id = idsByName.get(name);
+        return record(id != null ? usersById.get(id) : null);
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches {@code user} unless an eviction happened since {@code loadedAt} was read from {@link #generation()}.
+     */
+    synchronized void putIfUnchanged(final UserDto user, final long loadedAt) {
+        if (user.getId() == null || generation != loadedAt) {
+            return;
+        }
+        remove(user.getId());
+        usersById.put(user.getId(), copy(user));
+        idsByName.put(user.getName(), user.getId());
+        if (usersById.size() > maxSize) {
+            remove(usersById.keySet().iterator().next());
+        }
+    }
+
+    synchronized void evict(final Long id) {
+        generation++;
+        remove(id);
+    }
+
+    synchronized void evictName(final String name) {
+        generation++;
+        Long id = idsByName.get(name);
+        if (id != null) {
+            remove(id);
+        }
+    }
+
+    private void remove(final Long id) {
+        UserDto removed = usersById.remove(id);
+        if (removed != null) {
+            idsByName.remove(removed.getName(), id);
+        }
+    }
+
+    synchronized CacheStatisticsDto statistics() {
+        return new CacheStatisticsDto(hits.sum(), misses.sum(), usersById.size());
+    }
+
+    private UserDto record(final UserDto cached) {
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(cached);
+    }
+
+    private static UserDto copy(final UserDto user) {
+        return new UserDto(user.getId(), user.getName(), user.getEmail(), null, user.getRole());
+    }
+}
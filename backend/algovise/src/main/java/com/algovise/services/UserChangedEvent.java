@@ -0,0 +1,7 @@
+package com.algovise.services;
+
+/**
+ * Published by {@link UserService} after a user has been modified or deleted.
+ */
+public record UserChangedEvent(Long userId) {
+}
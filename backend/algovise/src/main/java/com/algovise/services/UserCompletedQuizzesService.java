@@ -2,14 +2,20 @@ package com.algovise.services;
 
 import com.algovise.entities.UserCompletedQuizzes;
 import com.algovise.repositories.UserCompletedQuizzesRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class UserCompletedQuizzesService {
 
+    private static final int MAX_CACHED_USERS = 10_000;
+
     private final UserCompletedQuizzesRepository repository;
+    private final CompletionCache completionCache = new CompletionCache(MAX_CACHED_USERS);
 
     public UserCompletedQuizzesService(UserCompletedQuizzesRepository repository) {
         this.repository = repository;
@@ -19,24 +25,46 @@ public class UserCompletedQuizzesService {
         return repository.existsByUserIdAndQuizId(userId, quizId);
     }
 
+    /**
+     * Ids of all quizzes the user has completed, in ascending order. Loaded once per user and kept up to date
+     * by {@link #saveCompletedQuiz} and {@link #deleteQuiz}.
+     */
+    public List<Long> getCompletedQuizIds(Long userId) {
+        Set<Long> quizIds = completionCache.get(userId);
+        if (quizIds == null) {
+            long loadedAt = completionCache.generation();
+            quizIds = Set.copyOf(repository.findQuizIdsByUserId(userId));
+            completionCache.putIfUnchanged(userId, quizIds, loadedAt);
+        }
+        return quizIds.stream().sorted().toList();
+    }
+
+    /**
+     * Records the completion once. The unique (user_id, quiz_id) constraint makes concurrent
+     * submissions of the same quiz safe; the losing insert is ignored once the row written by the
+     * other request is found, any other integrity violation is rethrown.
+     */
     public void saveCompletedQuiz(Long userId, Long quizId) {
-        if (!isQuizAlreadyCompleted(userId, quizId)) {
-            UserCompletedQuizzes completedQuiz = new UserCompletedQuizzes();
-            completedQuiz.setUserId(userId);
-            completedQuiz.setQuizId(quizId);
-            repository.save(completedQuiz);
+        if (isQuizAlreadyCompleted(userId, quizId)) {
+            return;
         }
+        UserCompletedQuizzes completedQuiz = new UserCompletedQuizzes();
+        completedQuiz.setUserId(userId);
+        completedQuiz.setQuizId(quizId);
+        try {
+            repository.saveAndFlush(completedQuiz);
+        } catch (DataIntegrityViolationException e) {
+            if (!isQuizAlreadyCompleted(userId, quizId)) {
+                throw e;
+            }
+        }
+        completionCache.add(userId, quizId);
     }
 
+    @Transactional
     public void deleteQuiz(Long quizId)
     {
-        List<UserCompletedQuizzes> userCompletedQuizzesList = repository.findAll();
-        for(UserCompletedQuizzes userCompletedQuizzes : userCompletedQuizzesList)
-        {
-            if(userCompletedQuizzes.getQuizId().equals(quizId))
-            {
-                repository.delete(userCompletedQuizzes);
-            }
-        }
+        repository.deleteByQuizId(quizId);
+        completionCache.clear();
     }
 }
@@ -1,6 +1,7 @@
 package com.algovise.services;
 
 import com.algovise.configs.PasswordEncoderConfig;
+import com.algovise.dtos.CacheStatisticsDto;
 import com.algovise.dtos.CredentialsDto;
 import com.algovise.dtos.SignUpDto;
 import com.algovise.dtos.UserDto;
@@ -10,6 +11,7 @@ import com.algovise.mappings.UserMapper;
 import com.algovise.repositories.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,9 +30,12 @@ public class UserService
 
 	private static final String USER_NOT_FOUND_ERR_MSG = "User not found with id: %s";
 	private static final String USER_NOT_FOUND_ERR_MSG_BY_NAME = "User not found";
+	private static final int MAX_CACHED_USERS = 10_000;
 	private final UserRepository userRepository;
 	private final UserMapper userMapper;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
+	private final UserCache userCache = new UserCache(MAX_CACHED_USERS);
 
     public UserDto login(final CredentialsDto credentialsDto) {
         try {
@@ -61,6 +66,7 @@ public class UserService
             user.setRole("USER");
 
             User savedUser = userRepository.save(user);
+            userCache.evictName(savedUser.getName());
 
             return userMapper.toUserDto(savedUser);
         } finally {
@@ -70,15 +76,41 @@ public class UserService
 
 
     public UserDto findByName(final String name) {
+		UserDto cached = userCache.getByName(name);
+		if (cached != null) {
+			return cached;
+		}
+		long loadedAt = userCache.generation();
 		User user = userRepository.findByName(name)
 				.orElseThrow(() -> new AppException(USER_NOT_FOUND_ERR_MSG_BY_NAME, HttpStatus.NOT_FOUND));
-		return userMapper.toUserDto(user);
+		return cache(userMapper.toUserDto(user), loadedAt);
 	}
 
 	public UserDto getUserById(final Long id) {
+		UserDto cached = userCache.getById(id);
+		if (cached != null) {
+			return cached;
+		}
+		final long loadedAt = userCache.generation();
 		final Optional<User> userOptional = userRepository.findById(id);
 		final User user = userOptional.orElseThrow(() -> new RuntimeException(String.format(USER_NOT_FOUND_ERR_MSG, id)));
-		return userMapper.toUserDto(user);
+		return cache(userMapper.toUserDto(user), loadedAt);
+	}
+
+	public CacheStatisticsDto getCacheStatistics() {
+		return userCache.statistics();
+	}
+
+	private UserDto cache(final UserDto userDto, final long loadedAt) {
+		if (userDto != null) {
+			userCache.putIfUnchanged(userDto, loadedAt);
+		}
+		return userDto;
+	}
+
+	private void userChanged(final Long id) {
+		userCache.evict(id);
+		eventPublisher.publishEvent(new UserChangedEvent(id));
 	}
 
 	public List<UserDto> getAllUsers() {
@@ -94,6 +126,7 @@ public class UserService
 		user.setEmail(userDto.getEmail());
 
 		final User updatedUser = userRepository.save(user);
+		userChanged(id);
 		return userMapper.toUserDto(updatedUser);
 	}
 
@@ -101,6 +134,7 @@ public class UserService
 		final User user = userRepository.findById(id)
 				.orElseThrow(() -> new RuntimeException(String.format(USER_NOT_FOUND_ERR_MSG, id)));
 		userRepository.delete(user);
+		userChanged(id);
 	}
 
 	public UserDto updateName(Long id, String newName) {
@@ -109,7 +143,9 @@ public class UserService
 
 		user.setName(newName);
 
-		return userMapper.toUserDto(userRepository.save(user));
+		User updatedUser = userRepository.save(user);
+		userChanged(id);
+		return userMapper.toUserDto(updatedUser);
 	}
 
 	public UserDto updateEmail(Long id, String newEmail) {
@@ -118,7 +154,9 @@ public class UserService
 
 		user.setEmail(newEmail);
 
-		return userMapper.toUserDto(userRepository.save(user));
+		User updatedUser = userRepository.save(user);
+		userChanged(id);
+		return userMapper.toUserDto(updatedUser);
 	}
 
 	public UserDto updatePassword(Long id, char[] password) {
@@ -127,6 +165,8 @@ public class UserService
 
 		user.setPassword(passwordEncoder.encode(CharBuffer.wrap(password)));
 
-		return userMapper.toUserDto(userRepository.save(user));
+		User updatedUser = userRepository.save(user);
+		userChanged(id);
+		return userMapper.toUserDto(updatedUser);
 	}
 }
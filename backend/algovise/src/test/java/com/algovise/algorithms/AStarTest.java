@@ -0,0 +1,51 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AStarTest {
+
+    // 0 - 1 - 2 - 3 chain (1 each) plus a 0 - 3 shortcut of weight 10
+    private final CsrGraph graph = CsrGraph.of(
+            new long[]{1, 2, 3, 4},
+            new int[]{0, 1, 2, 0},
+            new int[]{1, 2, 3, 3},
+            new double[]{1, 1, 1, 10},
+            false);
+
+    @Test
+    void shouldMatchDijkstraWithoutHeuristic() {
+        ShortestPathTree tree = AStar.run(graph, 0, 3, AStar.NONE);
+
+        assertEquals(3.0, tree.distanceTo(3));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, tree.pathTo(3));
+    }
+
+    @Test
+    void shouldFindShortestPathWithAdmissibleHeuristic() {
+        ShortestPathTree tree = AStar.run(graph, 0, 3, node -> 3 - node);
+
+        assertEquals(3.0, tree.distanceTo(3));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, tree.pathTo(3));
+    }
+
+    @Test
+    void shouldScaleEuclideanHeuristicBelowEdgeWeights() {
+        // nodes two units apart on a line: the chain edges weigh half their length, so the scale is 0.5
+        CsrGraph placed = graph.withCoordinates(new double[]{0, 2, 4, 6}, new double[]{0, 0, 0, 0});
+
+        AStar.Heuristic heuristic = AStar.euclidean(placed, 3);
+        ShortestPathTree tree = AStar.run(placed, 0, 3, heuristic);
+
+        assertEquals(3.0, heuristic.estimate(0));
+        assertEquals(0.0, heuristic.estimate(3));
+        assertEquals(3.0, tree.distanceTo(3));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, tree.pathTo(3));
+    }
+
+    @Test
+    void shouldFallBackToNoHeuristicWithoutCoordinates() {
+        assertSame(AStar.NONE, AStar.euclidean(graph, 3));
+    }
+}
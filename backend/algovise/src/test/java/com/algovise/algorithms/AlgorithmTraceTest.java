@@ -0,0 +1,94 @@
+package com.algovise.algorithms;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlgorithmTraceTest {
+
+    // node ids 10, 20, 30; edges 0: 10 -> 20 (4), 1: 10 -> 30 (1), 2: 30 -> 20 (2)
+    private final CsrGraph graph = CsrGraph.of(
+            new long[]{10, 20, 30},
+            new int[]{0, 0, 2},
+            new int[]{1, 2, 1},
+            new double[]{4, 1, 2},
+            true);
+
+    @Test
+    void shouldWriteOneJsonFramePerLine() throws IOException {
+        List<JsonNode> frames = write(new AlgorithmTrace(graph, TraceAlgorithm.DIJKSTRA, 0));
+
+        JsonNode start = frames.get(0);
+        assertEquals("start", start.get("type").asText());
+        assertEquals("dijkstra", start.get("algorithm").asText());
+        assertEquals(10L, start.get("source").asLong());
+        assertEquals(3, start.get("nodes").asInt());
+
+        JsonNode end = frames.get(frames.size() - 1);
+        assertEquals("end", end.get("type").asText());
+        assertEquals(3, end.get("steps").asInt());
+    }
+
+    @Test
+    void shouldEmitDeltasWithPersistedIds() throws IOException {
+        List<JsonNode> frames = write(new AlgorithmTrace(graph, TraceAlgorithm.DIJKSTRA, 0));
+
+        List<String> visited = new ArrayList<>();
+        List<Long> relaxedEdges = new ArrayList<>();
+        for (JsonNode frame : frames) {
+            switch (frame.get("type").asText()) {
+                case "visit" -> visited.add(frame.get("node").asText() + "@" + frame.get("distance").asDouble());
+                case "relax" -> relaxedEdges.add(frame.get("edge").asLong());
+                default -> { }
+            }
+        }
+
+        assertEquals(List.of("10@0.0", "30@1.0", "20@3.0"), visited);
+        assertEquals(List.of(0L, 1L, 2L), relaxedEdges);
+        assertEquals(1, frames.get(1).get("step").asInt());
+        assertEquals("push", frames.get(1).get("type").asText());
+    }
+
+    @Test
+    void shouldTraceTraversalsInTheSameOrderAsTheirPlainRuns() throws IOException {
+        for (TraceAlgorithm algorithm : List.of(TraceAlgorithm.BFS, TraceAlgorithm.DFS)) {
+            int[] expected = algorithm == TraceAlgorithm.BFS
+                    ? BreadthFirstSearch.order(graph, 0)
+                    : DepthFirstSearch.order(graph, 0);
+
+            List<Long> visited = new ArrayList<>();
+            for (JsonNode frame : write(new AlgorithmTrace(graph, algorithm, 0))) {
+                if (frame.get("type").asText().equals("visit")) {
+                    visited.add(frame.get("node").asLong());
+                }
+            }
+
+            assertEquals(expected.length, visited.size());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(graph.nodeId(expected[i]), visited.get(i));
+            }
+        }
+    }
+
+    private static List<JsonNode> write(AlgorithmTrace trace) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        trace.writeTo(out);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> frames = new ArrayList<>();
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"));
+        for (String line : body.split("\n")) {
+            frames.add(objectMapper.readTree(line));
+        }
+        return frames;
+    }
+}
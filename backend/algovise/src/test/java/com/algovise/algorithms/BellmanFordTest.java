@@ -0,0 +1,110 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BellmanFordTest {
+
+    @Test
+    void shouldHandleNegativeWeights() {
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3},
+                new int[]{0, 0, 1},
+                new int[]{1, 2, 2},
+                new double[]{4, 2, -3},
+                true);
+
+        ShortestPathTree tree = BellmanFord.run(graph, 0);
+
+        assertFalse(tree.hasNegativeCycle());
+        assertEquals(1.0, tree.distanceTo(2));
+        assertArrayEquals(new int[]{0, 1, 2}, tree.pathTo(2));
+    }
+
+    @Test
+    void shouldDetectNegativeCycle() {
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3},
+                new int[]{0, 1, 2},
+                new int[]{1, 2, 1},
+                new double[]{1, -2, 1},
+                true);
+
+        ShortestPathTree tree = BellmanFord.run(graph, 0);
+
+        assertTrue(tree.hasNegativeCycle());
+        assertFalse(tree.hasPathTo(2));
+        assertArrayEquals(new int[]{1, 2}, rotateToSmallest(tree.negativeCycle()));
+    }
+
+    @Test
+    void shouldExtractNegativeSelfLoop() {
+        CsrGraph graph = CsrGraph.of(new long[]{1, 2}, new int[]{0, 1}, new int[]{1, 1}, new double[]{2, -1}, true);
+
+        ShortestPathTree tree = BellmanFord.run(graph, 0);
+
+        assertArrayEquals(new int[]{1}, tree.negativeCycle());
+    }
+
+    @Test
+    void shouldIgnoreNegativeCycleUnreachableFromSource() {
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4},
+                new int[]{0, 2, 3},
+                new int[]{1, 3, 2},
+                new double[]{1, -2, 1},
+                true);
+
+        ShortestPathTree tree = BellmanFord.run(graph, 0);
+
+        assertFalse(tree.hasNegativeCycle());
+        assertEquals(0, tree.negativeCycle().length);
+        assertEquals(1.0, tree.distanceTo(1));
+        assertFalse(tree.hasPathTo(2));
+    }
+
+    @Test
+    void shouldMatchDijkstraOnNonNegativeWeights() {
+        Random random = new Random(13);
+        int n = 500;
+        int m = 2500;
+        long[] nodeIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            nodeIds[i] = i + 1;
+        }
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            sources[e] = random.nextInt(n);
+            targets[e] = random.nextInt(n);
+            weights[e] = random.nextInt(100);
+        }
+        CsrGraph graph = CsrGraph.of(nodeIds, sources, targets, weights, true);
+
+        ShortestPathTree expected = Dijkstra.run(graph, 0);
+        ShortestPathTree actual = BellmanFord.run(graph, 0);
+
+        assertFalse(actual.hasNegativeCycle());
+        for (int v = 0; v < n; v++) {
+            assertEquals(expected.distanceTo(v), actual.distanceTo(v));
+        }
+    }
+
+    private static int[] rotateToSmallest(int[] cycle) {
+        int smallest = 0;
+        for (int i = 1; i < cycle.length; i++) {
+            if (cycle[i] < cycle[smallest]) {
+                smallest = i;
+            }
+        }
+        int[] rotated = new int[cycle.length];
+        for (int i = 0; i < cycle.length; i++) {
+            rotated[i] = cycle[(smallest + i) % cycle.length];
+        }
+        return rotated;
+    }
+}
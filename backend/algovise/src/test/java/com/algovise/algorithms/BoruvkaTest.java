@@ -0,0 +1,73 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoruvkaTest {
+
+    @Test
+    void shouldFindMinimumSpanningTree() {
+        // square 0-1-2-3-0 with weights 1, 2, 3, 4 and diagonal 0-2 of weight 5
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4},
+                new int[]{0, 1, 2, 3, 0},
+                new int[]{1, 2, 3, 0, 2},
+                new double[]{1, 2, 3, 4, 5},
+                false);
+
+        SpanningForest forest = Boruvka.run(graph);
+
+        assertEquals(6.0, forest.totalWeight());
+        long[] edgeIds = forest.edgeIds();
+        Arrays.sort(edgeIds);
+        assertArrayEquals(new long[]{0, 1, 2}, edgeIds);
+    }
+
+    @Test
+    void shouldNotCloseCyclesOnEqualWeights() {
+        // triangle where every edge weighs the same, plus a self loop
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3},
+                new int[]{0, 1, 2, 1},
+                new int[]{1, 2, 0, 1},
+                new double[]{1, 1, 1, 0},
+                true);
+
+        SpanningForest forest = Boruvka.run(graph);
+
+        assertEquals(2, forest.edgeCount());
+        assertEquals(2.0, forest.totalWeight());
+    }
+
+    @Test
+    void shouldMatchKruskalInParallel() {
+        Random random = new Random(21);
+        int n = 3000;
+        int m = 20000;
+        long[] nodeIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            nodeIds[i] = i + 1;
+        }
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            sources[e] = random.nextInt(n);
+            targets[e] = random.nextInt(n);
+            weights[e] = random.nextInt(1000);
+        }
+        CsrGraph graph = CsrGraph.of(nodeIds, sources, targets, weights, false);
+
+        SpanningForest expected = Kruskal.run(graph);
+        SpanningForest sequential = Boruvka.run(graph, false);
+        SpanningForest parallel = Boruvka.run(graph, true);
+
+        assertEquals(expected.edgeCount(), parallel.edgeCount());
+        assertEquals(expected.totalWeight(), sequential.totalWeight());
+        assertEquals(expected.totalWeight(), parallel.totalWeight());
+    }
+}
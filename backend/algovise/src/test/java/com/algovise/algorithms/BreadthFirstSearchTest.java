@@ -0,0 +1,22 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BreadthFirstSearchTest {
+
+    @Test
+    void shouldVisitNodesLevelByLevel() {
+        // 0 -> 1, 0 -> 2, 1 -> 3, 2 -> 3, 3 -> 4
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4, 5, 6},
+                new int[]{0, 0, 1, 2, 3},
+                new int[]{1, 2, 3, 3, 4},
+                new double[]{1, 1, 1, 1, 1},
+                true);
+
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, BreadthFirstSearch.order(graph, 0));
+        assertArrayEquals(new int[]{5}, BreadthFirstSearch.order(graph, 5));
+    }
+}
@@ -0,0 +1,131 @@
+package com.algovise.algorithms;
+
+import com.algovise.entities.Edge;
+import com.algovise.entities.Graph;
+import com.algovise.entities.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrGraphTest {
+
+    private Graph graph;
+    private Node node10;
+    private Node node20;
+    private Node node30;
+
+    @BeforeEach
+    void setUp() {
+        graph = new Graph();
+        graph.setId(1L);
+        graph.setWeighted(true);
+
+        node10 = node(10L);
+        node20 = node(20L);
+        node30 = node(30L);
+        graph.getNodes().add(node30);
+        graph.getNodes().add(node10);
+        graph.getNodes().add(node20);
+    }
+
+    @Test
+    void shouldMapNodeIdsToSortedDenseIndices() {
+        CsrGraph csr = CsrGraph.from(graph);
+
+        assertEquals(3, csr.nodeCount());
+        assertEquals(0, csr.indexOf(10L));
+        assertEquals(1, csr.indexOf(20L));
+        assertEquals(2, csr.indexOf(30L));
+        assertEquals(-1, csr.indexOf(40L));
+        assertEquals(-1, csr.indexOf(null));
+        assertEquals(30L, csr.nodeId(2));
+    }
+
+    @Test
+    void shouldStoreDirectedEdgesOnce() {
+        graph.setDirected(true);
+        graph.getEdges().add(edge(100L, node10, node20, 2.5));
+        graph.getEdges().add(edge(101L, node10, node30, 4.0));
+
+        CsrGraph csr = CsrGraph.from(graph);
+
+        assertEquals(2, csr.edgeCount());
+        assertEquals(2, csr.arcCount());
+        assertEquals(2, csr.offsets[1] - csr.offsets[0]);
+        assertEquals(0, csr.offsets[2] - csr.offsets[1]);
+    }
+
+    @Test
+    void shouldStoreUndirectedEdgesInBothDirections() {
+        graph.setDirected(false);
+        graph.getEdges().add(edge(100L, node10, node20, 2.5));
+
+        CsrGraph csr = CsrGraph.from(graph);
+
+        assertEquals(1, csr.edgeCount());
+        assertEquals(2, csr.arcCount());
+        assertEquals(1, csr.targets[csr.offsets[0]]);
+        assertEquals(0, csr.targets[csr.offsets[1]]);
+        assertEquals(100L, csr.edgeId(csr.arcEdges[csr.offsets[1]]));
+    }
+
+    @Test
+    void shouldUseUnitWeightsForUnweightedGraphs() {
+        graph.setWeighted(false);
+        graph.setDirected(true);
+        graph.getEdges().add(edge(100L, node10, node20, 7.0));
+        graph.getEdges().add(edge(101L, node20, node30, null));
+
+        CsrGraph csr = CsrGraph.from(graph);
+
+        for (int arc = 0; arc < csr.arcCount(); arc++) {
+            assertEquals(1.0, csr.weights[arc]);
+        }
+    }
+
+    @Test
+    void shouldSkipEdgesReferencingUnknownNodes() {
+        graph.getEdges().add(edge(100L, node10, node(99L), 1.0));
+
+        CsrGraph csr = CsrGraph.from(graph);
+
+        assertEquals(0, csr.edgeCount());
+    }
+
+    @Test
+    void shouldKeepCoordinatesOnlyWhenEveryNodeHasThem() {
+        graph.getEdges().add(edge(100L, node10, node20, 10.0));
+        node10.setX(0.0);
+        node10.setY(0.0);
+        node20.setX(3.0);
+        node20.setY(4.0);
+
+        assertFalse(CsrGraph.from(graph).hasCoordinates());
+
+        node30.setX(1.0);
+        node30.setY(1.0);
+        CsrGraph csr = CsrGraph.from(graph);
+
+        assertTrue(csr.hasCoordinates());
+        assertEquals(5.0, csr.distance(0, 1));
+        assertEquals(2.0, csr.coordinateScale);
+    }
+
+    private static Node node(Long id) {
+        Node node = new Node();
+        node.setId(id);
+        node.setLabel("N" + id);
+        return node;
+    }
+
+    private Edge edge(Long id, Node source, Node target, Double weight) {
+        Edge edge = new Edge();
+        edge.setId(id);
+        edge.setSource(source);
+        edge.setTarget(target);
+        edge.setWeight(weight);
+        edge.setGraph(graph);
+        return edge;
+    }
+}
@@ -0,0 +1,43 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DepthFirstSearchTest {
+
+    @Test
+    void shouldVisitNodesInPreOrder() {
+        // 0 -> 1, 0 -> 2, 1 -> 3, 2 -> 3, 3 -> 4
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4, 5},
+                new int[]{0, 0, 1, 2, 3},
+                new int[]{1, 2, 3, 3, 4},
+                new double[]{1, 1, 1, 1, 1},
+                true);
+
+        assertArrayEquals(new int[]{0, 1, 3, 4, 2}, DepthFirstSearch.order(graph, 0));
+    }
+
+    @Test
+    void shouldHandleLongPathsWithoutRecursion() {
+        int n = 100_000;
+        long[] ids = new long[n];
+        int[] sources = new int[n - 1];
+        int[] targets = new int[n - 1];
+        double[] weights = new double[n - 1];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        for (int i = 0; i < n - 1; i++) {
+            sources[i] = i;
+            targets[i] = i + 1;
+            weights[i] = 1;
+        }
+
+        int[] order = DepthFirstSearch.order(CsrGraph.of(ids, sources, targets, weights, true), 0);
+
+        assertEquals(n, order.length);
+        assertEquals(n - 1, order[n - 1]);
+    }
+}
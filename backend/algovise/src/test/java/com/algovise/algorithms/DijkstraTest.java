@@ -0,0 +1,45 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DijkstraTest {
+
+    // 0 -> 1 (4), 0 -> 2 (1), 2 -> 1 (2), 1 -> 3 (1), 2 -> 3 (5)
+    private final CsrGraph graph = CsrGraph.of(
+            new long[]{1, 2, 3, 4},
+            new int[]{0, 0, 2, 1, 2},
+            new int[]{1, 2, 1, 3, 3},
+            new double[]{4, 1, 2, 1, 5},
+            true);
+
+    @Test
+    void shouldFindShortestDistancesFromSource() {
+        ShortestPathTree tree = Dijkstra.run(graph, 0);
+
+        assertEquals(0.0, tree.distanceTo(0));
+        assertEquals(3.0, tree.distanceTo(1));
+        assertEquals(1.0, tree.distanceTo(2));
+        assertEquals(4.0, tree.distanceTo(3));
+        assertArrayEquals(new int[]{0, 2, 1, 3}, tree.pathTo(3));
+        assertEquals(3L, tree.parentEdgeIdOf(3));
+    }
+
+    @Test
+    void shouldStopAtTarget() {
+        ShortestPathTree tree = Dijkstra.run(graph, 0, 2);
+
+        assertEquals(1.0, tree.distanceTo(2));
+        assertArrayEquals(new int[]{0, 2}, tree.pathTo(2));
+    }
+
+    @Test
+    void shouldReportUnreachableNodes() {
+        ShortestPathTree tree = Dijkstra.run(graph, 3);
+
+        assertFalse(tree.hasPathTo(0));
+        assertEquals(0, tree.pathTo(0).length);
+        assertEquals(-1L, tree.parentEdgeIdOf(0));
+    }
+}
@@ -0,0 +1,79 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloydWarshallTest {
+
+    @Test
+    void shouldComputeAllPairs() {
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4},
+                new int[]{0, 0, 2, 1, 2},
+                new int[]{1, 2, 1, 3, 3},
+                new double[]{4, 1, 2, 1, 5},
+                true);
+
+        AllPairsShortestPaths result = FloydWarshall.run(graph);
+
+        assertFalse(result.hasNegativeCycle());
+        assertEquals(4.0, result.distance(0, 3));
+        assertEquals(3.0, result.distance(2, 3));
+        assertEquals(Double.POSITIVE_INFINITY, result.distance(3, 0));
+        assertArrayEquals(new int[]{0, 2, 1, 3}, result.path(0, 3));
+        assertArrayEquals(new int[]{2}, result.path(2, 2));
+        assertEquals(0, result.path(3, 0).length);
+    }
+
+    @Test
+    void shouldDetectNegativeCycle() {
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2},
+                new int[]{0},
+                new int[]{1},
+                new double[]{-1},
+                false);
+
+        assertTrue(FloydWarshall.run(graph).hasNegativeCycle());
+    }
+
+    @Test
+    void shouldMatchDijkstraAcrossSeveralBlocks() {
+        int n = 2 * FloydWarshall.BLOCK_SIZE + 37;
+        Random random = new Random(7);
+        int m = n * 4;
+        long[] nodeIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            nodeIds[i] = i + 1;
+        }
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            sources[e] = random.nextInt(n);
+            targets[e] = random.nextInt(n);
+            weights[e] = 1 + random.nextInt(20);
+        }
+        CsrGraph graph = CsrGraph.of(nodeIds, sources, targets, weights, true);
+
+        AllPairsShortestPaths sequential = FloydWarshall.run(graph, false);
+        AllPairsShortestPaths parallel = FloydWarshall.run(graph, true);
+
+        for (int from = 0; from < n; from++) {
+            ShortestPathTree tree = Dijkstra.run(graph, from);
+            for (int to = 0; to < n; to++) {
+                assertEquals(tree.distanceTo(to), sequential.distance(from, to));
+                assertEquals(tree.distanceTo(to), parallel.distance(from, to));
+                assertEquals(tree.hasPathTo(to), parallel.path(from, to).length > 0);
+            }
+        }
+        int[] path = parallel.path(0, n - 1);
+        if (path.length > 0) {
+            assertEquals(0, path[0]);
+            assertEquals(n - 1, path[path.length - 1]);
+        }
+    }
+}
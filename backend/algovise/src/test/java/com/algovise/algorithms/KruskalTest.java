@@ -0,0 +1,69 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KruskalTest {
+
+    @Test
+    void shouldFindMinimumSpanningTree() {
+        // square 0-1-2-3-0 with weights 1, 2, 3, 4 and diagonal 0-2 of weight 5
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4},
+                new int[]{0, 1, 2, 3, 0},
+                new int[]{1, 2, 3, 0, 2},
+                new double[]{1, 2, 3, 4, 5},
+                false);
+
+        SpanningForest forest = Kruskal.run(graph);
+
+        assertEquals(6.0, forest.totalWeight());
+        long[] edgeIds = forest.edgeIds();
+        Arrays.sort(edgeIds);
+        assertArrayEquals(new long[]{0, 1, 2}, edgeIds);
+    }
+
+    @Test
+    void shouldBuildForestForDisconnectedGraph() {
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4},
+                new int[]{0, 2},
+                new int[]{1, 3},
+                new double[]{2, 3},
+                false);
+
+        SpanningForest forest = Kruskal.run(graph);
+
+        assertEquals(2, forest.edgeCount());
+        assertEquals(5.0, forest.totalWeight());
+    }
+
+    @Test
+    void shouldSortEdgeIndicesByWeight() {
+        int[] order = Kruskal.sortedByWeight(new double[]{3, 1, 2, 1, 0});
+
+        assertArrayEquals(new int[]{4, 1, 3, 2, 0}, order);
+    }
+
+    @Test
+    void shouldSortLargeEdgeSetsStablyInParallel() {
+        Random random = new Random(9);
+        double[] weights = new double[200_000];
+        for (int e = 0; e < weights.length; e++) {
+            weights[e] = random.nextInt(5000) - 2500.5;
+        }
+
+        int[] order = Kruskal.sortedByWeight(weights);
+
+        assertEquals(weights.length, order.length);
+        for (int i = 1; i < order.length; i++) {
+            double previous = weights[order[i - 1]];
+            double current = weights[order[i]];
+            assertTrue(previous < current || previous == current && order[i - 1] < order[i]);
+        }
+    }
+}
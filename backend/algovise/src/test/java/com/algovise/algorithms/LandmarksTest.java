@@ -0,0 +1,83 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LandmarksTest {
+
+    @Test
+    void shouldMatchDijkstraOnRandomPairs() {
+        for (boolean directed : new boolean[]{true, false}) {
+            CsrGraph graph = randomGraph(300, 900, directed, new Random(11));
+            Landmarks landmarks = Landmarks.select(graph, 8);
+            Random random = new Random(5);
+
+            assertEquals(8, landmarks.count());
+            for (int query = 0; query < 200; query++) {
+                int source = random.nextInt(graph.nodeCount());
+                int target = random.nextInt(graph.nodeCount());
+
+                ShortestPathTree expected = Dijkstra.run(graph, source, target);
+                ShortestPathTree actual = AStar.run(graph, source, target, landmarks.toward(target));
+
+                assertEquals(expected.distanceTo(target), actual.distanceTo(target));
+                assertEquals(expected.hasPathTo(target), actual.hasPathTo(target));
+            }
+        }
+    }
+
+    @Test
+    void shouldNeverOverestimate() {
+        CsrGraph graph = randomGraph(200, 600, true, new Random(3));
+        Landmarks landmarks = Landmarks.select(graph, 4);
+
+        for (int target = 0; target < graph.nodeCount(); target += 17) {
+            AStar.Heuristic heuristic = landmarks.toward(target);
+            ShortestPathTree toTarget = Dijkstra.run(graph.reversed(), target);
+            for (int node = 0; node < graph.nodeCount(); node++) {
+                assertTrue(heuristic.estimate(node) <= toTarget.distanceTo(node));
+            }
+        }
+    }
+
+    @Test
+    void shouldPlaceLandmarksInEveryComponent() {
+        // 0 - 1 and 2 - 3 are not connected
+        CsrGraph graph = CsrGraph.of(new long[]{1, 2, 3, 4}, new int[]{0, 2}, new int[]{1, 3}, new double[]{1, 1}, false);
+
+        Landmarks landmarks = Landmarks.select(graph, 2);
+
+        assertEquals(2, landmarks.count());
+        assertEquals(2, landmarks.landmark(0));
+        assertEquals(1, landmarks.landmark(1));
+        assertEquals(8, landmarks.cells());
+        assertEquals(Double.POSITIVE_INFINITY, landmarks.toward(3).estimate(0));
+        assertEquals(1.0, landmarks.toward(3).estimate(2));
+    }
+
+    @Test
+    void shouldRejectNegativeWeights() {
+        CsrGraph graph = CsrGraph.of(new long[]{1, 2}, new int[]{0}, new int[]{1}, new double[]{-1}, true);
+
+        assertThrows(IllegalArgumentException.class, () -> Landmarks.select(graph, 2));
+    }
+
+    private static CsrGraph randomGraph(int n, int m, boolean directed, Random random) {
+        long[] nodeIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            nodeIds[i] = i + 1;
+        }
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            sources[e] = random.nextInt(n);
+            targets[e] = random.nextInt(n);
+            weights[e] = 1 + random.nextInt(50);
+        }
+        return CsrGraph.of(nodeIds, sources, targets, weights, directed);
+    }
+}
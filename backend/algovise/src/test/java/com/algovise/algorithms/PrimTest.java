@@ -0,0 +1,90 @@
+package com.algovise.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimTest {
+
+    @Test
+    void shouldFindMinimumSpanningTree() {
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4},
+                new int[]{0, 1, 2, 3, 0},
+                new int[]{1, 2, 3, 0, 2},
+                new double[]{1, 2, 3, 4, 5},
+                false);
+
+        SpanningForest forest = Prim.run(graph);
+
+        assertEquals(6.0, forest.totalWeight());
+        long[] edgeIds = forest.edgeIds();
+        Arrays.sort(edgeIds);
+        assertArrayEquals(new long[]{0, 1, 2}, edgeIds);
+    }
+
+    @Test
+    void shouldIgnoreDirectionOfEdges() {
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3},
+                new int[]{1, 2},
+                new int[]{0, 0},
+                new double[]{1, 1},
+                true);
+
+        SpanningForest forest = Prim.run(graph);
+
+        assertEquals(2, forest.edgeCount());
+        assertEquals(2.0, forest.totalWeight());
+    }
+
+    @Test
+    void shouldAgreeWithKruskalInBothModes() {
+        Random random = new Random(17);
+        for (int edges : new int[]{300, 20_000}) {
+            CsrGraph graph = randomGraph(200, edges, random);
+            SpanningForest expected = Kruskal.run(graph);
+
+            for (SpanningForest forest : List.of(Prim.sparse(graph), Prim.dense(graph), Prim.run(graph))) {
+                assertEquals(expected.edgeCount(), forest.edgeCount());
+                assertEquals(expected.totalWeight(), forest.totalWeight(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void shouldBuildForestInDenseMode() {
+        // complete triangle 0-1-2 and a separate pair 3-4
+        CsrGraph graph = CsrGraph.of(
+                new long[]{1, 2, 3, 4, 5},
+                new int[]{0, 1, 0, 3},
+                new int[]{1, 2, 2, 4},
+                new double[]{2, 1, 3, 4},
+                false);
+
+        SpanningForest forest = Prim.dense(graph);
+
+        assertEquals(3, forest.edgeCount());
+        assertEquals(7.0, forest.totalWeight());
+    }
+
+    private static CsrGraph randomGraph(int n, int m, Random random) {
+        long[] nodeIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            nodeIds[i] = i + 1;
+        }
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            sources[e] = random.nextInt(n);
+            targets[e] = random.nextInt(n);
+            weights[e] = random.nextDouble() * 100;
+        }
+        return CsrGraph.of(nodeIds, sources, targets, weights, false);
+    }
+}
@@ -0,0 +1,41 @@
+package com.algovise.configs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CompletedQuizDeduplicatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CompletedQuizDeduplicator completedQuizDeduplicator;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldDeleteAllButOldestCompletionOfEachPair() {
+        completedQuizDeduplicator.afterPropertiesSet();
+
+        verify(jdbcTemplate).update(contains("AND kept.quiz_id = duplicate.quiz_id AND kept.id < duplicate.id"));
+    }
+
+    @Test
+    void shouldNotFailStartupWhenTableIsMissing() {
+        when(jdbcTemplate.update(anyString())).thenThrow(new DataAccessResourceFailureException("no such table"));
+
+        assertDoesNotThrow(() -> completedQuizDeduplicator.afterPropertiesSet());
+    }
+}
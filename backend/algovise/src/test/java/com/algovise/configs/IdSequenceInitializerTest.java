@@ -0,0 +1,44 @@
+package com.algovise.configs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IdSequenceInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private IdSequenceInitializer idSequenceInitializer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldMoveEverySequencePastExistingIds() {
+        idSequenceInitializer.afterPropertiesSet();
+
+        verify(jdbcTemplate).update(contains("UPDATE graph_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 100 FROM graph)"));
+        verify(jdbcTemplate).update(contains("UPDATE node_seq"));
+        verify(jdbcTemplate).update(contains("UPDATE edge_seq"));
+    }
+
+    @Test
+    void shouldNotFailStartupWhenSequenceTableIsMissing() {
+        when(jdbcTemplate.update(anyString())).thenThrow(new DataAccessResourceFailureException("no such table"));
+
+        assertDoesNotThrow(() -> idSequenceInitializer.afterPropertiesSet());
+        verify(jdbcTemplate, times(3)).update(anyString());
+    }
+}
@@ -1,8 +1,10 @@
 package com.algovise.configs;
 
 import com.algovise.dtos.UserDto;
+import com.algovise.services.UserChangedEvent;
 import com.algovise.services.UserService;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
@@ -32,6 +35,11 @@ class UserAuthenticationProviderTest {
         userAuthenticationProvider.init();
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void testCreateToken() {
         String username = "testuser";
@@ -121,4 +129,54 @@ class UserAuthenticationProviderTest {
         assertEquals(999L, userId);
         verify(userService, times(1)).findByName(username);
     }
+
+    @Test
+    void testGetUserIdByToken_verifiesTokenOnce() {
+        String username = "someUser";
+        UserDto userDto = new UserDto();
+        userDto.setName(username);
+        userDto.setId(999L);
+        userDto.setRole("USER");
+
+        when(userService.findByName(username)).thenReturn(userDto);
+
+        String token = userAuthenticationProvider.createToken(username);
+
+        assertEquals(999L, userAuthenticationProvider.getUserIdByToken(token));
+        assertEquals(999L, userAuthenticationProvider.getUserIdByToken(token));
+        assertFalse(userAuthenticationProvider.isUserAdmin(token));
+        verify(userService, times(1)).findByName(username);
+    }
+
+    @Test
+    void testGetUserIdByToken_readsAuthenticationOfCurrentRequest() {
+        UserDto userDto = new UserDto();
+        userDto.setName("someUser");
+        userDto.setId(999L);
+        String token = userAuthenticationProvider.createToken("someUser");
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDto, token, Collections.emptyList()));
+
+        assertEquals(999L, userAuthenticationProvider.getUserIdByToken(token));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testOnUserChanged_forgetsVerifiedTokensOfUser() {
+        String username = "someUser";
+        UserDto userDto = new UserDto();
+        userDto.setName(username);
+        userDto.setId(999L);
+
+        when(userService.findByName(username)).thenReturn(userDto);
+
+        String token = userAuthenticationProvider.createToken(username);
+
+        userAuthenticationProvider.getUserIdByToken(token);
+        userAuthenticationProvider.onUserChanged(new UserChangedEvent(999L));
+        userAuthenticationProvider.getUserIdByToken(token);
+
+        verify(userService, times(2)).findByName(username);
+    }
 }
@@ -1,10 +1,25 @@
 package com.algovise.controllers;
 
-import com.algovise.configs.UserAuthenticationProvider;
+import com.algovise.algorithms.AlgorithmTrace;
+import com.algovise.algorithms.AllPairsMatrix;
+import com.algovise.algorithms.CsrGraph;
+import com.algovise.algorithms.FloydWarshall;
+import com.algovise.algorithms.TraceAlgorithm;
+import com.algovise.configs.RestExceptionHandler;
 import com.algovise.dtos.EdgeDto;
+import com.algovise.dtos.GraphChangeSetDto;
+import com.algovise.dtos.GraphContentsDto;
+import com.algovise.dtos.GraphSummaryDto;
+import com.algovise.dtos.GraphSummaryPageDto;
+import com.algovise.dtos.GraphSyncResultDto;
+import com.algovise.dtos.NodeDto;
+import com.algovise.dtos.ShortestPathDto;
+import com.algovise.dtos.SpanningTreeDto;
 import com.algovise.entities.Edge;
 import com.algovise.entities.Graph;
 import com.algovise.entities.Node;
+import com.algovise.exceptions.AppException;
+import com.algovise.services.GraphAlgorithmService;
 import com.algovise.services.GraphService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,14 +27,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,7 +48,7 @@ class GraphControllerTest {
     private GraphService graphService;
 
     @Mock
-    private UserAuthenticationProvider userAuthenticationProvider;
+    private GraphAlgorithmService graphAlgorithmService;
 
     @InjectMocks
     private GraphController graphController;
@@ -51,7 +69,6 @@ class GraphControllerTest {
         graph.setId(1L);
         graph.setName("Test Graph");
 
-        when(userAuthenticationProvider.getUserIdByToken("dummy-token")).thenReturn(1L);
         when(graphService.getAllGraphs("dummy-token")).thenReturn(List.of(graph));
 
         mockMvc.perform(get("/graphs")
@@ -63,20 +80,122 @@ class GraphControllerTest {
         verify(graphService).getAllGraphs("dummy-token");
     }
 
+    @Test
+    void shouldGetGraphSummaries() throws Exception {
+        when(graphService.getGraphSummaries(5L, 1, "dummy-token"))
+                .thenReturn(new GraphSummaryPageDto(List.of(new GraphSummaryDto(6L, "Test Graph", true, false, 3L, 2L)), 6L));
+
+        mockMvc.perform(get("/graphs/summaries")
+                        .param("after", "5")
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer dummy-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(6L))
+                .andExpect(jsonPath("$.items[0].directed").value(true))
+                .andExpect(jsonPath("$.items[0].nodeCount").value(3))
+                .andExpect(jsonPath("$.items[0].edgeCount").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(6L));
+    }
+
     @Test
     void shouldGetGraphById() throws Exception {
         Graph graph = new Graph();
         graph.setId(1L);
         graph.setName("Test Graph");
 
-        when(graphService.getGraphById(1L, "dummy-token")).thenReturn(graph);
+        when(graphService.getFullGraphById(1L, "dummy-token")).thenReturn(graph);
 
-        mockMvc.perform(get("/graphs/1"))
+        mockMvc.perform(get("/graphs/1")
+                        .header("Authorization", "Bearer dummy-token"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.name").value("Test Graph"));
 
-        verify(graphService).getGraphById(1L, "dummy-token");
+        verify(graphService).getFullGraphById(1L, "dummy-token");
+    }
+
+    @Test
+    void shouldGetShortestPath() throws Exception {
+        when(graphAlgorithmService.shortestPath(1L, 10L, 30L, "dijkstra", "dummy-token"))
+                .thenReturn(new ShortestPathDto("dijkstra", List.of(10L, 20L, 30L), 7.5));
+
+        mockMvc.perform(get("/graphs/1/shortest-path")
+                        .param("from", "10")
+                        .param("to", "30")
+                        .header("Authorization", "Bearer dummy-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.path[2]").value(30L))
+                .andExpect(jsonPath("$.distance").value(7.5));
+
+        verify(graphAlgorithmService).shortestPath(1L, 10L, 30L, "dijkstra", "dummy-token");
+    }
+
+    @Test
+    void shouldForbidShortestPathOnForeignGraph() throws Exception {
+        when(graphAlgorithmService.shortestPath(1L, 10L, 30L, "astar", "dummy-token"))
+                .thenThrow(new IllegalAccessException("Trying to modify graph of someone else!"));
+
+        mockMvc.perform(get("/graphs/1/shortest-path")
+                        .param("from", "10")
+                        .param("to", "30")
+                        .param("algorithm", "astar")
+                        .header("Authorization", "Bearer dummy-token"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldGetSpanningTree() throws Exception {
+        when(graphAlgorithmService.spanningTree(1L, "boruvka", "dummy-token"))
+                .thenReturn(new SpanningTreeDto("boruvka", 4.5, List.of(100L, 101L)));
+
+        mockMvc.perform(get("/graphs/1/spanning-tree")
+                        .param("algorithm", "boruvka")
+                        .header("Authorization", "Bearer dummy-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalWeight").value(4.5))
+                .andExpect(jsonPath("$.edgeIds[1]").value(101L));
+
+        verify(graphAlgorithmService).spanningTree(1L, "boruvka", "dummy-token");
+    }
+
+    @Test
+    void shouldGetAllPairsShortestPaths() throws Exception {
+        CsrGraph snapshot = CsrGraph.of(new long[]{10, 20}, new int[]{0}, new int[]{1}, new double[]{2.5}, true);
+        when(graphAlgorithmService.allPairs(1L, "dummy-token"))
+                .thenReturn(new AllPairsMatrix(snapshot, FloydWarshall.run(snapshot)));
+
+        MvcResult result = mockMvc.perform(get("/graphs/1/all-pairs")
+                        .header("Authorization", "Bearer dummy-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.nodeIds[1]").value(20L))
+                .andExpect(jsonPath("$.distances[0][1]").value(2.5))
+                .andExpect(jsonPath("$.distances[1][0]").value(nullValue()));
+
+        verify(graphAlgorithmService).allPairs(1L, "dummy-token");
+    }
+
+    @Test
+    void shouldStreamAlgorithmTrace() throws Exception {
+        CsrGraph snapshot = CsrGraph.of(new long[]{10, 20}, new int[]{0}, new int[]{1}, new double[]{1}, true);
+        when(graphAlgorithmService.trace(1L, "bfs", 10L, "dummy-token"))
+                .thenReturn(new AlgorithmTrace(snapshot, TraceAlgorithm.BFS, 0));
+
+        MvcResult result = mockMvc.perform(get("/graphs/1/trace")
+                        .param("algorithm", "bfs")
+                        .param("from", "10")
+                        .header("Authorization", "Bearer dummy-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(AlgorithmTrace.CONTENT_TYPE))
+                .andExpect(content().string(startsWith("{\"type\":\"start\"")));
     }
 
     @Test
@@ -88,8 +207,7 @@ class GraphControllerTest {
         createdGraph.setId(1L);
         createdGraph.setName("New Graph");
 
-        when(userAuthenticationProvider.getUserIdByToken("dummy-token")).thenReturn(1L);
-        when(graphService.createGraph(any(Graph.class), eq("dummy-token"))).thenReturn(createdGraph);
+        when(graphService.createGraph(any(Graph.class), isNull(), eq("dummy-token"))).thenReturn(createdGraph);
 
         mockMvc.perform(post("/graphs")
                         .header("Authorization", "Bearer dummy-token")
@@ -99,7 +217,26 @@ class GraphControllerTest {
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.name").value("New Graph"));
 
-        verify(graphService).createGraph(any(Graph.class), eq("dummy-token"));
+        verify(graphService).createGraph(any(Graph.class), isNull(), eq("dummy-token"));
+    }
+
+    @Test
+    void shouldReturnConflictWhenGraphWasSavedSinceItWasLoaded() throws Exception {
+        Graph graph = new Graph();
+        graph.setId(1L);
+        graph.setName("Renamed");
+
+        when(graphService.createGraph(any(Graph.class), eq(2L), eq("dummy-token")))
+                .thenThrow(new AppException("Graph 1 was modified since version 2, current version is 3", HttpStatus.CONFLICT));
+        mockMvc = MockMvcBuilders.standaloneSetup(graphController).setControllerAdvice(new RestExceptionHandler()).build();
+
+        mockMvc.perform(post("/graphs")
+                        .param("baseVersion", "2")
+                        .header("Authorization", "Bearer dummy-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(graph)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(startsWith("Graph 1 was modified")));
     }
 
     @Test
@@ -112,10 +249,8 @@ class GraphControllerTest {
         node2.setId(2L);
         node2.setLabel("Node 2");
 
-        when(userAuthenticationProvider.getUserIdByToken("dummy-token")).thenReturn(1L);
-        when(graphService.addNodeToGraph(eq(1L), any(Node.class), eq("dummy-token")))
-                .thenReturn(node1)
-                .thenReturn(node2);
+        when(graphService.addNodesToGraph(eq(1L), anyList(), eq("dummy-token")))
+                .thenReturn(List.of(node1, node2));
 
         mockMvc.perform(post("/graphs/1/nodes")
                         .header("Authorization", "Bearer dummy-token")
@@ -127,7 +262,7 @@ class GraphControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2L))
                 .andExpect(jsonPath("$[1].label").value("Node 2"));
 
-        verify(graphService, times(2)).addNodeToGraph(eq(1L), any(Node.class), eq("dummy-token"));
+        verify(graphService).addNodesToGraph(eq(1L), anyList(), eq("dummy-token"));
     }
 
     @Test
@@ -143,25 +278,8 @@ class GraphControllerTest {
         edge2.setId(2L);
         edge2.setWeight(15.0);
 
-        Node node1 = new Node();
-        node1.setId(1L);
-        Node node2 = new Node();
-        node2.setId(2L);
-        Node node3 = new Node();
-        node3.setId(3L);
-
-        Graph graph = new Graph();
-        graph.setId(1L);
-        graph.setNodes(Set.of(node1, node2, node3));
-        graph.setEdges(Set.of(edge1, edge2));
-        graph.setUser(new com.algovise.entities.User());
-        graph.getUser().setId(1L);
-
-        when(userAuthenticationProvider.getUserIdByToken("dummy-token")).thenReturn(1L);
-        when(graphService.findGraphById(1L)).thenReturn(Optional.of(graph));
-        when(graphService.addEdgeToGraph(eq(1L), any(EdgeDto.class), "dummy-token"))
-                .thenReturn(edge1)
-                .thenReturn(edge2);
+        when(graphService.replaceEdges(eq(1L), anyList(), eq("dummy-token")))
+                .thenReturn(List.of(edge1, edge2));
 
         mockMvc.perform(post("/graphs/1/edges")
                         .header("Authorization", "Bearer dummy-token")
@@ -173,15 +291,70 @@ class GraphControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2L))
                 .andExpect(jsonPath("$[1].weight").value(15.0));
 
-        verify(graphService, times(2)).addEdgeToGraph(eq(1L), any(EdgeDto.class), "dummy-token");
-        verify(graphService).findGraphById(1L);
-        verify(userAuthenticationProvider).getUserIdByToken("dummy-token");
+        verify(graphService).replaceEdges(eq(1L), anyList(), eq("dummy-token"));
+    }
+
+    @Test
+    void shouldReplaceGraphContents() throws Exception {
+        GraphContentsDto contents = GraphContentsDto.builder()
+                .baseVersion(2L)
+                .nodes(List.of(new NodeDto(1L, "A"), new NodeDto(-1L, "B")))
+                .edges(List.of(new EdgeDto(-1L, 1L, -1L, 1.0)))
+                .build();
+        when(graphService.replaceContents(eq(1L), any(GraphContentsDto.class), eq("dummy-token")))
+                .thenReturn(new GraphSyncResultDto(3L, Map.of(-1L, 5L), Map.of(-1L, 6L)));
+
+        mockMvc.perform(put("/graphs/1/contents")
+                        .header("Authorization", "Bearer dummy-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(contents)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(3L))
+                .andExpect(jsonPath("$.nodeIds['-1']").value(5L));
+
+        verify(graphService).replaceContents(eq(1L), argThat(c -> c.getNodes().size() == 2 && c.getEdges().size() == 1), eq("dummy-token"));
+    }
+
+    @Test
+    void shouldApplyGraphChanges() throws Exception {
+        GraphChangeSetDto changes = GraphChangeSetDto.builder()
+                .baseVersion(3L)
+                .addedNodes(List.of(new NodeDto(-1L, "C")))
+                .addedEdges(List.of(new EdgeDto(-1L, 1L, -1L, null)))
+                .removedNodeIds(List.of(2L))
+                .build();
+        when(graphService.applyChanges(eq(1L), any(GraphChangeSetDto.class), eq("dummy-token")))
+                .thenReturn(new GraphSyncResultDto(4L, Map.of(-1L, 7L), Map.of(-1L, 9L)));
+
+        mockMvc.perform(patch("/graphs/1")
+                        .header("Authorization", "Bearer dummy-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(changes)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(4L))
+                .andExpect(jsonPath("$.nodeIds['-1']").value(7L))
+                .andExpect(jsonPath("$.edgeIds['-1']").value(9L));
+
+        verify(graphService).applyChanges(eq(1L), argThat(c -> c.getBaseVersion() == 3L
+                && c.getRemovedNodeIds().equals(List.of(2L))
+                && c.getAddedEdges().get(0).getTargetId() == -1L), eq("dummy-token"));
+    }
+
+    @Test
+    void shouldForbidChangesToForeignGraph() throws Exception {
+        when(graphService.applyChanges(eq(1L), any(GraphChangeSetDto.class), eq("dummy-token")))
+                .thenThrow(new IllegalAccessException("Trying to modify graph of someone else!"));
+
+        mockMvc.perform(patch("/graphs/1")
+                        .header("Authorization", "Bearer dummy-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseVersion\":0}"))
+                .andExpect(status().isForbidden());
     }
 
 
     @Test
     void shouldDeleteGraph() throws Exception {
-        when(userAuthenticationProvider.getUserIdByToken("dummy-token")).thenReturn(1L);
         doNothing().when(graphService).deleteGraph(1L, "dummy-token");
 
         mockMvc.perform(delete("/graphs/1")
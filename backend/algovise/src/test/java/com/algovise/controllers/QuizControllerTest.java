@@ -2,8 +2,11 @@ package com.algovise.controllers;
 
 import com.algovise.configs.UserAuthenticationProvider;
 import com.algovise.dtos.QuizDto;
+import com.algovise.services.CatalogSnapshot;
+import com.algovise.services.FileContent;
 import com.algovise.services.QuizService;
 import com.algovise.services.UserCompletedQuizzesService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -14,10 +17,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -51,16 +58,28 @@ class QuizControllerTest {
         QuizDto quiz1 = new QuizDto(1L, "Quiz 1");
         QuizDto quiz2 = new QuizDto(2L, "Quiz 2");
 
-        when(quizService.getAllQuizzes()).thenReturn(List.of(quiz1, quiz2));
+        CatalogSnapshot catalog = CatalogSnapshot.of(new ObjectMapper(), List.of(quiz1, quiz2));
+        when(quizService.getQuizCatalog()).thenReturn(catalog);
 
         mockMvc.perform(get("/quizzes/list"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + catalog.eTag() + "\""))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].title").value("Quiz 1"))
                 .andExpect(jsonPath("$[1].id").value(2L))
                 .andExpect(jsonPath("$[1].title").value("Quiz 2"));
 
-        verify(quizService).getAllQuizzes();
+        verify(quizService).getQuizCatalog();
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenQuizCatalogIsUnchanged() throws Exception {
+        CatalogSnapshot catalog = CatalogSnapshot.of(new ObjectMapper(), List.of(new QuizDto(1L, "Quiz 1")));
+        when(quizService.getQuizCatalog()).thenReturn(catalog);
+
+        mockMvc.perform(get("/quizzes/list")
+                        .header("If-None-Match", "\"" + catalog.eTag() + "\""))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -78,7 +97,24 @@ class QuizControllerTest {
                 .andExpect(content().string("Quiz saved successfully."));
 
         verify(userAuthenticationProvider).isUserAdmin(token);
-        verify(quizService).saveQuiz(eq("New Quiz"), anyString());
+        verify(quizService).saveQuiz(eq("New Quiz"), anyString(), anyString());
+    }
+
+    @Test
+    void shouldRejectMalformedQuizUpload() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "quiz.json", "application/json", "{ \"question\": ".getBytes());
+        String token = "admin-token";
+
+        when(userAuthenticationProvider.isUserAdmin(token)).thenReturn(true);
+
+        mockMvc.perform(multipart("/quizzes/add")
+                        .file(file)
+                        .param("title", "Broken")
+                        .param("token", token))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(startsWith("Invalid JSON file: ")));
+
+        verify(quizService, never()).saveQuiz(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -96,18 +132,65 @@ class QuizControllerTest {
                 .andExpect(content().string("User not permitted to add new quiz."));
 
         verify(userAuthenticationProvider).isUserAdmin(token);
-        verify(quizService, never()).saveQuiz(anyString(), anyString());
+        verify(quizService, never()).saveQuiz(anyString(), anyString(), anyString());
     }
 
     @Test
     void shouldGetQuizFileContent() throws Exception {
-        when(quizService.getQuizContent(1L)).thenReturn("{ \"quiz\": \"content\" }");
+        byte[] bytes = "{ \"quiz\": \"content\" }".getBytes(StandardCharsets.UTF_8);
+        when(quizService.getQuizFile(1L)).thenReturn(new FileContent(null, bytes, bytes.length, "abc123", Instant.parse("2024-05-01T10:00:00Z")));
 
         mockMvc.perform(get("/quizzes/file/1"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("{ \"quiz\": \"content\" }"));
 
-        verify(quizService).getQuizContent(1L);
+        verify(quizService).getQuizFile(1L);
+    }
+
+    @Test
+    void shouldServeRequestedRangeOfQuizFile() throws Exception {
+        byte[] bytes = "{ \"quiz\": \"content\" }".getBytes(StandardCharsets.UTF_8);
+        when(quizService.getQuizFile(1L)).thenReturn(new FileContent(null, bytes, bytes.length, "abc123", Instant.parse("2024-05-01T10:00:00Z")));
+
+        mockMvc.perform(get("/quizzes/file/1")
+                        .header("Range", "bytes=0-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 0-3/" + bytes.length))
+                .andExpect(content().bytes(Arrays.copyOf(bytes, 4)));
+    }
+
+    @Test
+    void shouldServeGzipVariantOfQuizWhenAccepted() throws Exception {
+        byte[] bytes = "{ \"quiz\": \"content\" }".getBytes(StandardCharsets.UTF_8);
+        byte[] gzipped = { 31, -117, 8, 0 };
+        when(quizService.getQuizFile(1L)).thenReturn(new FileContent(null, bytes, bytes.length, "abc123",
+                Instant.parse("2024-05-01T10:00:00Z"), Path.of("/tmp/quiz.gz"), gzipped));
+
+        mockMvc.perform(get("/quizzes/file/1")
+                        .header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().string("ETag", "\"abc123-gzip\""))
+                .andExpect(content().bytes(gzipped));
+
+        mockMvc.perform(get("/quizzes/file/1")
+                        .header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().bytes(bytes));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenQuizETagMatches() throws Exception {
+        byte[] bytes = "{ \"quiz\": \"content\" }".getBytes(StandardCharsets.UTF_8);
+        when(quizService.getQuizFile(1L)).thenReturn(new FileContent(null, bytes, bytes.length, "abc123", Instant.parse("2024-05-01T10:00:00Z")));
+
+        mockMvc.perform(get("/quizzes/file/1")
+                        .header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(content().string(""));
     }
 
     @Test
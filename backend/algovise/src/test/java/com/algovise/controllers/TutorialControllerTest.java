@@ -2,6 +2,8 @@ package com.algovise.controllers;
 
 import com.algovise.configs.UserAuthenticationProvider;
 import com.algovise.dtos.TutorialDto;
+import com.algovise.services.CatalogSnapshot;
+import com.algovise.services.FileContent;
 import com.algovise.services.TutorialService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +16,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -48,16 +53,28 @@ class TutorialControllerTest {
         TutorialDto tutorial1 = new TutorialDto(1L, "Tutorial 1");
         TutorialDto tutorial2 = new TutorialDto(2L, "Tutorial 2");
 
-        when(tutorialService.getAllTutorials()).thenReturn(List.of(tutorial1, tutorial2));
+        CatalogSnapshot catalog = CatalogSnapshot.of(new ObjectMapper(), List.of(tutorial1, tutorial2));
+        when(tutorialService.getTutorialCatalog()).thenReturn(catalog);
 
         mockMvc.perform(get("/tutorials/list"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + catalog.eTag() + "\""))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].title").value("Tutorial 1"))
                 .andExpect(jsonPath("$[1].id").value(2L))
                 .andExpect(jsonPath("$[1].title").value("Tutorial 2"));
 
-        verify(tutorialService).getAllTutorials();
+        verify(tutorialService).getTutorialCatalog();
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenTutorialCatalogIsUnchanged() throws Exception {
+        CatalogSnapshot catalog = CatalogSnapshot.of(new ObjectMapper(), List.of(new TutorialDto(1L, "Tutorial 1")));
+        when(tutorialService.getTutorialCatalog()).thenReturn(catalog);
+
+        mockMvc.perform(get("/tutorials/list")
+                        .header("If-None-Match", "\"" + catalog.eTag() + "\""))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -75,7 +92,24 @@ class TutorialControllerTest {
                 .andExpect(content().string("Tutorial saved successfully."));
 
         verify(userAuthenticationProvider).isUserAdmin(token);
-        verify(tutorialService).saveTutorial(eq("New Tutorial"), anyString());
+        verify(tutorialService).saveTutorial(eq("New Tutorial"), anyString(), anyString());
+    }
+
+    @Test
+    void shouldRejectMalformedTutorialUpload() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "tutorial.md", "text/markdown", new byte[]{ 35, 32, (byte) 0xC3, 0x28 });
+        String token = "admin-token";
+
+        when(userAuthenticationProvider.isUserAdmin(token)).thenReturn(true);
+
+        mockMvc.perform(multipart("/tutorials/add")
+                        .file(file)
+                        .param("title", "Broken")
+                        .param("token", token))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid markdown file: the file is not valid UTF-8."));
+
+        verify(tutorialService, never()).saveTutorial(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -93,18 +127,65 @@ class TutorialControllerTest {
                 .andExpect(content().string("User not permitted to add new tutorial."));
 
         verify(userAuthenticationProvider).isUserAdmin(token);
-        verify(tutorialService, never()).saveTutorial(anyString(), anyString());
+        verify(tutorialService, never()).saveTutorial(anyString(), anyString(), anyString());
     }
 
     @Test
     void shouldGetTutorialContent() throws Exception {
-        when(tutorialService.getTutorialContent(1L)).thenReturn("# Markdown Content");
+        byte[] bytes = "# Markdown Content".getBytes(StandardCharsets.UTF_8);
+        when(tutorialService.getTutorialFile(1L)).thenReturn(new FileContent(null, bytes, bytes.length, "abc123", Instant.parse("2024-05-01T10:00:00Z")));
 
         mockMvc.perform(get("/tutorials/file/1"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("# Markdown Content"));
 
-        verify(tutorialService).getTutorialContent(1L);
+        verify(tutorialService).getTutorialFile(1L);
+    }
+
+    @Test
+    void shouldServeRequestedRangeOfTutorialFile() throws Exception {
+        byte[] bytes = "# Markdown Content".getBytes(StandardCharsets.UTF_8);
+        when(tutorialService.getTutorialFile(1L)).thenReturn(new FileContent(null, bytes, bytes.length, "abc123", Instant.parse("2024-05-01T10:00:00Z")));
+
+        mockMvc.perform(get("/tutorials/file/1")
+                        .header("Range", "bytes=0-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 0-3/" + bytes.length))
+                .andExpect(content().bytes(Arrays.copyOf(bytes, 4)));
+    }
+
+    @Test
+    void shouldServeGzipVariantOfTutorialWhenAccepted() throws Exception {
+        byte[] bytes = "# Markdown Content".getBytes(StandardCharsets.UTF_8);
+        byte[] gzipped = { 31, -117, 8, 0 };
+        when(tutorialService.getTutorialFile(1L)).thenReturn(new FileContent(null, bytes, bytes.length, "abc123",
+                Instant.parse("2024-05-01T10:00:00Z"), Path.of("/tmp/tutorial.gz"), gzipped));
+
+        mockMvc.perform(get("/tutorials/file/1")
+                        .header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().string("ETag", "\"abc123-gzip\""))
+                .andExpect(content().bytes(gzipped));
+
+        mockMvc.perform(get("/tutorials/file/1")
+                        .header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().bytes(bytes));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenTutorialETagMatches() throws Exception {
+        byte[] bytes = "# Markdown Content".getBytes(StandardCharsets.UTF_8);
+        when(tutorialService.getTutorialFile(1L)).thenReturn(new FileContent(null, bytes, bytes.length, "abc123", Instant.parse("2024-05-01T10:00:00Z")));
+
+        mockMvc.perform(get("/tutorials/file/1")
+                        .header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(content().string(""));
     }
 
     @Test
@@ -10,6 +10,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,8 +37,6 @@ class UserCompletedQuizzesControllerTest {
         Long userId = 1L;
         Long quizId = 101L;
 
-        when(service.isQuizAlreadyCompleted(userId, quizId)).thenReturn(false);
-
         mockMvc.perform(post("/completed-quizzes")
                         .param("userId", String.valueOf(userId))
                         .param("quizId", String.valueOf(quizId))
@@ -44,26 +44,8 @@ class UserCompletedQuizzesControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("Quiz marked as completed."));
 
-        verify(service).isQuizAlreadyCompleted(userId, quizId);
         verify(service).saveCompletedQuiz(userId, quizId);
-    }
-
-    @Test
-    void shouldNotMarkQuizAsCompletedIfAlreadyCompleted() throws Exception {
-        Long userId = 1L;
-        Long quizId = 101L;
-
-        when(service.isQuizAlreadyCompleted(userId, quizId)).thenReturn(true);
-
-        mockMvc.perform(post("/completed-quizzes")
-                        .param("userId", String.valueOf(userId))
-                        .param("quizId", String.valueOf(quizId))
-                        .contentType(MediaType.APPLICATION_FORM_URLENCODED))
-                .andExpect(status().isOk())
-                .andExpect(content().string("Quiz marked as completed."));
-
-        verify(service).isQuizAlreadyCompleted(userId, quizId);
-        verify(service, never()).saveCompletedQuiz(anyLong(), anyLong());
+        verify(service, never()).isQuizAlreadyCompleted(anyLong(), anyLong());
     }
 
     @Test
@@ -97,4 +79,15 @@ class UserCompletedQuizzesControllerTest {
 
         verify(service).isQuizAlreadyCompleted(userId, quizId);
     }
+
+    @Test
+    void shouldReturnAllCompletedQuizIdsOfUser() throws Exception {
+        when(service.getCompletedQuizIds(1L)).thenReturn(List.of(101L, 103L));
+
+        mockMvc.perform(get("/completed-quizzes/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[101, 103]"));
+
+        verify(service).getCompletedQuizIds(1L);
+    }
 }
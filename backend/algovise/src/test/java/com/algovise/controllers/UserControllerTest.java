@@ -1,6 +1,7 @@
 package com.algovise.controllers;
 
 import com.algovise.configs.UserAuthenticationProvider;
+import com.algovise.dtos.CacheStatisticsDto;
 import com.algovise.dtos.UpdateUserDto;
 import com.algovise.dtos.UserDto;
 import com.algovise.services.UserService;
@@ -168,4 +169,26 @@ class UserControllerTest {
 
         verify(userService).updatePassword(eq(1L), any(char[].class));
     }
+
+    @Test
+    void shouldGetCacheStatisticsForAdmin() throws Exception {
+        when(userAuthenticationProvider.isUserAdmin("admin-token")).thenReturn(true);
+        when(userService.getCacheStatistics()).thenReturn(new CacheStatisticsDto(5L, 2L, 3));
+
+        mockMvc.perform(get("/user/cache-statistics").header("Authorization", "Bearer admin-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(5))
+                .andExpect(jsonPath("$.misses").value(2))
+                .andExpect(jsonPath("$.size").value(3));
+    }
+
+    @Test
+    void shouldForbidCacheStatisticsForRegularUser() throws Exception {
+        when(userAuthenticationProvider.isUserAdmin("user-token")).thenReturn(false);
+
+        mockMvc.perform(get("/user/cache-statistics").header("Authorization", "Bearer user-token"))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).getCacheStatistics();
+    }
 }
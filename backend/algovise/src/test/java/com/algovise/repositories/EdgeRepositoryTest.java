@@ -10,7 +10,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -99,5 +101,39 @@ class EdgeRepositoryTest {
         Optional<Edge> deletedEdge = edgeRepository.findById(edge.getId());
         assertFalse(deletedEdge.isPresent());
     }
-}
 
+    @Test
+    void shouldDeleteEdgesTouchingNodesInOneStatement() {
+        Node a = new Node();
+        a.setLabel("A");
+        a.setGraph(graph);
+        Node b = new Node();
+        b.setLabel("B");
+        b.setGraph(graph);
+        Node c = new Node();
+        c.setLabel("C");
+        c.setGraph(graph);
+        nodeRepository.saveAll(List.of(a, b, c));
+
+        Edge ab = new Edge();
+        ab.setSource(a);
+        ab.setTarget(b);
+        ab.setGraph(graph);
+        Edge bc = new Edge();
+        bc.setSource(b);
+        bc.setTarget(c);
+        bc.setGraph(graph);
+        Edge ca = new Edge();
+        ca.setSource(c);
+        ca.setTarget(a);
+        ca.setGraph(graph);
+        edgeRepository.saveAllAndFlush(List.of(ab, bc, ca));
+
+        assertEquals(2, edgeRepository.deleteByGraphIdAndNodeIdIn(graph.getId(), List.of(a.getId())));
+        assertEquals(1, edgeRepository.deleteByGraphIdAndIdIn(graph.getId(), List.of(bc.getId(), ab.getId())));
+        assertEquals(1, nodeRepository.deleteByGraphIdAndIdIn(graph.getId(), List.of(a.getId())));
+
+        assertTrue(edgeRepository.findIdsByGraphId(graph.getId()).isEmpty());
+        assertEquals(Set.of(b.getId(), c.getId()), Set.copyOf(nodeRepository.findIdsByGraphId(graph.getId())));
+    }
+}
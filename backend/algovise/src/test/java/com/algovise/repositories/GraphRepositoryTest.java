@@ -1,11 +1,17 @@
 package com.algovise.repositories;
 
+import com.algovise.dtos.GraphSummaryDto;
+import com.algovise.entities.Edge;
 import com.algovise.entities.Graph;
+import com.algovise.entities.Node;
 import com.algovise.entities.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -22,6 +28,9 @@ class GraphRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User user;
 
     @BeforeEach
@@ -70,4 +79,81 @@ class GraphRepositoryTest {
 
         assertTrue(graphs.isEmpty());
     }
+
+    @Test
+    void shouldSummarizeGraphsWithCounts() {
+        Graph graph = persistGraphWithTriangle("Triangle");
+        Graph empty = new Graph();
+        empty.setName("Empty");
+        empty.setUser(user);
+        graphRepository.save(empty);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<GraphSummaryDto> summaries = graphRepository.findSummariesByUserIdAfter(user.getId(), 0L, Limit.of(10));
+
+        assertEquals(2, summaries.size());
+        assertEquals(graph.getId(), summaries.get(0).getId());
+        assertEquals(3, summaries.get(0).getNodeCount());
+        assertEquals(3, summaries.get(0).getEdgeCount());
+        assertTrue(summaries.get(0).isDirected());
+        assertEquals(0, summaries.get(1).getNodeCount());
+        assertEquals(0, summaries.get(1).getEdgeCount());
+    }
+
+    @Test
+    void shouldSeekSummaryPagesPastCursor() {
+        Graph first = persistGraphWithTriangle("First");
+        Graph second = persistGraphWithTriangle("Second");
+        Graph third = persistGraphWithTriangle("Third");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<GraphSummaryDto> firstPage = graphRepository.findSummariesByUserIdAfter(user.getId(), 0L, Limit.of(2));
+        List<GraphSummaryDto> secondPage = graphRepository.findSummariesByUserIdAfter(user.getId(), second.getId(), Limit.of(2));
+
+        assertEquals(List.of(first.getId(), second.getId()), firstPage.stream().map(GraphSummaryDto::getId).toList());
+        assertEquals(List.of(third.getId()), secondPage.stream().map(GraphSummaryDto::getId).toList());
+    }
+
+    @Test
+    void shouldLoadNodesAndEdgesWithFetchPlan() {
+        Graph graph = persistGraphWithTriangle("Triangle");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Graph> graphs = graphRepository.findWithNodesByUserIdOrderById(user.getId());
+        graphRepository.findWithEdgesByIdIn(List.of(graph.getId()));
+
+        assertEquals(1, graphs.size());
+        assertTrue(Hibernate.isInitialized(graphs.get(0).getNodes()));
+        assertTrue(Hibernate.isInitialized(graphs.get(0).getEdges()));
+        assertEquals(3, graphs.get(0).getNodes().size());
+        assertEquals(3, graphs.get(0).getEdges().size());
+    }
+
+    private Graph persistGraphWithTriangle(String name) {
+        Graph graph = new Graph();
+        graph.setName(name);
+        graph.setDirected(true);
+        graph.setUser(user);
+        graphRepository.save(graph);
+
+        Node[] nodes = new Node[3];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Node();
+            nodes[i].setLabel("N" + i);
+            nodes[i].setGraph(graph);
+            entityManager.persist(nodes[i]);
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            Edge edge = new Edge();
+            edge.setSource(nodes[i]);
+            edge.setTarget(nodes[(i + 1) % nodes.length]);
+            edge.setWeight(1.0);
+            edge.setGraph(graph);
+            entityManager.persist(edge);
+        }
+        return graph;
+    }
 }
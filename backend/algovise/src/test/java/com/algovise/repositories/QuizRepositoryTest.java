@@ -42,4 +42,15 @@ class QuizRepositoryTest {
         Optional<Quiz> deletedQuiz = quizRepository.findById(quiz.getId());
         assertFalse(deletedQuiz.isPresent());
     }
+
+    @Test
+    void shouldFindQuizByFilePath() {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Uploaded");
+        quiz.setFilePath("uploads/quiz");
+        quizRepository.save(quiz);
+
+        assertEquals(1, quizRepository.findByFilePath("uploads/quiz").size());
+        assertTrue(quizRepository.findByFilePath("uploads/other").isEmpty());
+    }
 }
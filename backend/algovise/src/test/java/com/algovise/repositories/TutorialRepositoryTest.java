@@ -45,4 +45,15 @@ class TutorialRepositoryTest {
         Optional<Tutorial> deletedTutorial = tutorialRepository.findById(tutorial.getId());
         assertFalse(deletedTutorial.isPresent());
     }
+
+    @Test
+    void shouldFindTutorialByFilePath() {
+        Tutorial tutorial = new Tutorial();
+        tutorial.setTitle("Uploaded");
+        tutorial.setFilePath("uploads/tutorial");
+        tutorialRepository.save(tutorial);
+
+        assertEquals(1, tutorialRepository.findByFilePath("uploads/tutorial").size());
+        assertTrue(tutorialRepository.findByFilePath("uploads/other").isEmpty());
+    }
 }
@@ -4,8 +4,12 @@ import com.algovise.entities.UserCompletedQuizzes;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
@@ -47,4 +51,44 @@ class UserCompletedQuizzesRepositoryTest {
 
         assertFalse(userCompletedQuizzesRepository.existsByUserIdAndQuizId(2L, 102L));
     }
+
+    @Test
+    void shouldDeleteCompletionsOfQuizInOneStatement() {
+        userCompletedQuizzesRepository.save(completion(1L, 101L));
+        userCompletedQuizzesRepository.save(completion(2L, 101L));
+        userCompletedQuizzesRepository.save(completion(1L, 102L));
+
+        int deleted = userCompletedQuizzesRepository.deleteByQuizId(101L);
+
+        assertEquals(2, deleted);
+        assertFalse(userCompletedQuizzesRepository.existsByUserIdAndQuizId(1L, 101L));
+        assertFalse(userCompletedQuizzesRepository.existsByUserIdAndQuizId(2L, 101L));
+        assertTrue(userCompletedQuizzesRepository.existsByUserIdAndQuizId(1L, 102L));
+    }
+
+    @Test
+    void shouldRejectDuplicateCompletion() {
+        userCompletedQuizzesRepository.saveAndFlush(completion(3L, 103L));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> userCompletedQuizzesRepository.saveAndFlush(completion(3L, 103L)));
+    }
+
+    @Test
+    void shouldFindQuizIdsCompletedByUser() {
+        userCompletedQuizzesRepository.save(completion(4L, 101L));
+        userCompletedQuizzesRepository.save(completion(4L, 102L));
+        userCompletedQuizzesRepository.save(completion(5L, 103L));
+
+        List<Long> quizIds = userCompletedQuizzesRepository.findQuizIdsByUserId(4L);
+
+        assertEquals(Set.of(101L, 102L), Set.copyOf(quizIds));
+    }
+
+    private UserCompletedQuizzes completion(Long userId, Long quizId) {
+        UserCompletedQuizzes completedQuiz = new UserCompletedQuizzes();
+        completedQuiz.setUserId(userId);
+        completedQuiz.setQuizId(quizId);
+        return completedQuiz;
+    }
 }
@@ -0,0 +1,76 @@
+package com.algovise.services;
+
+import com.algovise.exceptions.AppException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileUploadTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldStoreValidJsonWithHashAndSize() throws IOException {
+        Path target = directory.resolve("quiz.json");
+        byte[] content = "{ \"questions\": [1, 2, 3] }\n".getBytes(StandardCharsets.UTF_8);
+
+        FileUpload.StoredFile stored = FileUpload.store(new ByteArrayInputStream(content), target, FileUpload.Format.JSON);
+
+        assertEquals(target, stored.path());
+        assertEquals(content.length, stored.size());
+        assertEquals(FileContent.hashOf(content), stored.contentHash());
+        assertArrayEquals(content, Files.readAllBytes(target));
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    void shouldKeepPreviousFileWhenUploadIsInvalid() throws IOException {
+        Path target = directory.resolve("quiz.json");
+        Files.writeString(target, "{}");
+        byte[] content = "{ \"questions\": [1, 2 ".getBytes(StandardCharsets.UTF_8);
+
+        AppException exception = assertThrows(AppException.class,
+                () -> FileUpload.store(new ByteArrayInputStream(content), target, FileUpload.Format.JSON));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertEquals("{}", Files.readString(target));
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    void shouldRejectTrailingJsonContent() {
+        byte[] content = "{} {}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(AppException.class,
+                () -> FileUpload.store(new ByteArrayInputStream(content), directory.resolve("quiz.json"), FileUpload.Format.JSON));
+    }
+
+    @Test
+    void shouldValidateMarkdownAsUtf8() throws IOException {
+        byte[] valid = "# Zażółć gęślą jaźń".getBytes(StandardCharsets.UTF_8);
+        byte[] malformed = {'#', ' ', (byte) 0xC3, 0x28};
+
+        FileUpload.store(new ByteArrayInputStream(valid), directory.resolve("ok.md"), FileUpload.Format.MARKDOWN);
+
+        assertThrows(AppException.class,
+                () -> FileUpload.store(new ByteArrayInputStream(malformed), directory.resolve("broken.md"), FileUpload.Format.MARKDOWN));
+        assertArrayEquals(valid, Files.readAllBytes(directory.resolve("ok.md")));
+        assertEquals(1, countFiles());
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.algovise.services;
+
+import com.algovise.algorithms.CsrGraph;
+import com.algovise.dtos.ShortestPathDto;
+import com.algovise.dtos.SpanningTreeDto;
+import com.algovise.entities.Edge;
+import com.algovise.entities.Graph;
+import com.algovise.entities.Node;
+import com.algovise.exceptions.AppException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GraphAlgorithmServiceTest {
+
+    @Mock
+    private GraphService graphService;
+
+    @InjectMocks
+    private GraphAlgorithmService graphAlgorithmService;
+
+    private Graph graph;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        graph = new Graph();
+        graph.setId(1L);
+        graph.setDirected(true);
+        graph.setWeighted(true);
+
+        Node source = new Node();
+        source.setId(10L);
+        Node target = new Node();
+        target.setId(20L);
+        graph.getNodes().add(source);
+        graph.getNodes().add(target);
+
+        Edge edge = new Edge();
+        edge.setId(100L);
+        edge.setSource(source);
+        edge.setTarget(target);
+        edge.setWeight(3.0);
+        graph.getEdges().add(edge);
+    }
+
+    @Test
+    void shouldBuildSnapshotOfOwnedGraph() throws IllegalAccessException {
+        when(graphService.getFullGraphById(1L, "validToken")).thenReturn(graph);
+
+        CsrGraph snapshot = graphAlgorithmService.getSnapshot(1L, "validToken");
+
+        assertEquals(2, snapshot.nodeCount());
+        assertEquals(1, snapshot.edgeCount());
+        verify(graphService).getFullGraphById(1L, "validToken");
+    }
+
+    @Test
+    void shouldPropagateAccessErrors() throws IllegalAccessException {
+        when(graphService.getFullGraphById(1L, "otherToken")).thenThrow(new IllegalAccessException("denied"));
+
+        assertThrows(IllegalAccessException.class, () -> graphAlgorithmService.getSnapshot(1L, "otherToken"));
+    }
+
+    @Test
+    void shouldRejectNodesOutsideTheGraph() {
+        CsrGraph snapshot = CsrGraph.from(graph);
+
+        assertEquals(1, graphAlgorithmService.nodeIndex(snapshot, 20L));
+        assertThrows(AppException.class, () -> graphAlgorithmService.nodeIndex(snapshot, 99L));
+    }
+
+    @Test
+    void shouldReturnShortestPathNodeIdsAndDistance() throws IllegalAccessException {
+        when(graphService.getFullGraphById(1L, "validToken")).thenReturn(graph);
+
+        for (String algorithm : List.of("dijkstra", "bellman-ford", "astar", "alt")) {
+            ShortestPathDto result = graphAlgorithmService.shortestPath(1L, 10L, 20L, algorithm, "validToken");
+
+            assertEquals(algorithm, result.getAlgorithm());
+            assertEquals(List.of(10L, 20L), result.getPath());
+            assertEquals(3.0, result.getDistance());
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyPathWhenTargetIsUnreachable() throws IllegalAccessException {
+        when(graphService.getFullGraphById(1L, "validToken")).thenReturn(graph);
+
+        ShortestPathDto result = graphAlgorithmService.shortestPath(1L, 20L, 10L, "dijkstra", "validToken");
+
+        assertTrue(result.getPath().isEmpty());
+        assertNull(result.getDistance());
+    }
+
+    @Test
+    void shouldReportNegativeCycleFoundByBellmanFord() throws IllegalAccessException {
+        Edge back = new Edge();
+        back.setId(101L);
+        back.setSource(graph.getNodes().stream().filter(node -> node.getId() == 20L).findFirst().orElseThrow());
+        back.setTarget(graph.getNodes().stream().filter(node -> node.getId() == 10L).findFirst().orElseThrow());
+        back.setWeight(-5.0);
+        graph.getEdges().add(back);
+        when(graphService.getFullGraphById(1L, "validToken")).thenReturn(graph);
+
+        AppException exception = assertThrows(AppException.class,
+                () -> graphAlgorithmService.shortestPath(1L, 10L, 20L, "bellman-ford", "validToken"));
+
+        assertEquals("Graph contains a negative cycle reachable from node 10: 20 -> 10 -> 20", exception.getMessage());
+    }
+
+    @Test
+    void shouldPointToBellmanFordOnNegativeWeights() throws IllegalAccessException {
+        graph.getEdges().iterator().next().setWeight(-1.0);
+        when(graphService.getFullGraphById(1L, "validToken")).thenReturn(graph);
+
+        for (String algorithm : List.of("dijkstra", "astar", "alt")) {
+            AppException exception = assertThrows(AppException.class,
+                    () -> graphAlgorithmService.shortestPath(1L, 10L, 20L, algorithm, "validToken"));
+
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+            assertTrue(exception.getMessage().contains("bellman-ford"));
+        }
+        ShortestPathDto result = graphAlgorithmService.shortestPath(1L, 10L, 20L, "bellman-ford", "validToken");
+        assertEquals(-1.0, result.getDistance());
+    }
+
+    @Test
+    void shouldRejectUnknownAlgorithm() {
+        assertThrows(AppException.class, () -> graphAlgorithmService.shortestPath(1L, 10L, 20L, "bogo", "validToken"));
+        verifyNoInteractions(graphService);
+    }
+
+    @Test
+    void shouldReturnPersistedEdgeIdsOfSpanningTree() throws IllegalAccessException {
+        when(graphService.getFullGraphById(1L, "validToken")).thenReturn(graph);
+
+        for (String algorithm : List.of("kruskal", "boruvka", "prim")) {
+            SpanningTreeDto result = graphAlgorithmService.spanningTree(1L, algorithm, "validToken");
+
+            assertEquals(algorithm, result.getAlgorithm());
+            assertEquals(3.0, result.getTotalWeight());
+            assertEquals(List.of(100L), result.getEdgeIds());
+        }
+        assertThrows(AppException.class, () -> graphAlgorithmService.spanningTree(1L, "bogo", "validToken"));
+    }
+
+    @Test
+    void shouldServeAllPairsFromCacheUntilGraphVersionChanges() throws IOException, IllegalAccessException {
+        graph.setVersion(3L);
+        when(graphService.findGraphVersion(1L, "validToken")).thenReturn(Optional.empty(), Optional.of(3L), Optional.of(4L));
+        when(graphService.getFullGraphById(1L, "validToken")).thenReturn(graph);
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        graphAlgorithmService.allPairs(1L, "validToken").writeTo(first);
+        ShortestPathDto path = graphAlgorithmService.allPairsPath(1L, 10L, 20L, "validToken");
+
+        assertEquals("{\"nodeIds\":[10,20],\"distances\":[[0.0,3.0],[null,0.0]]}", first.toString(StandardCharsets.UTF_8));
+        assertEquals(List.of(10L, 20L), path.getPath());
+        assertEquals(3.0, path.getDistance());
+        verify(graphService, times(1)).getFullGraphById(1L, "validToken");
+
+        graph.setVersion(4L);
+        graphAlgorithmService.allPairs(1L, "validToken");
+
+        verify(graphService, times(2)).getFullGraphById(1L, "validToken");
+    }
+}
@@ -1,9 +1,18 @@
 package com.algovise.services;
 
 import com.algovise.configs.UserAuthenticationProvider;
+import com.algovise.dtos.EdgeDto;
+import com.algovise.dtos.GraphChangeSetDto;
+import com.algovise.dtos.GraphContentsDto;
+import com.algovise.dtos.GraphSummaryDto;
+import com.algovise.dtos.GraphSummaryPageDto;
+import com.algovise.dtos.GraphSyncResultDto;
+import com.algovise.dtos.NodeDto;
+import com.algovise.entities.Edge;
 import com.algovise.entities.Graph;
 import com.algovise.entities.Node;
 import com.algovise.entities.User;
+import com.algovise.exceptions.AppException;
 import com.algovise.repositories.EdgeRepository;
 import com.algovise.repositories.GraphRepository;
 import com.algovise.repositories.NodeRepository;
@@ -13,9 +22,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 
-import javax.management.openmbean.KeyAlreadyExistsException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -62,13 +73,61 @@ class GraphServiceTest {
     @Test
     void shouldGetAllGraphsForUser() {
         when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
-        when(graphRepository.findByUserId(1L)).thenReturn(List.of(graph));
+        when(graphRepository.findWithNodesByUserIdOrderById(1L)).thenReturn(List.of(graph));
 
         var graphs = graphService.getAllGraphs("validToken");
 
         assertEquals(1, graphs.size());
         assertEquals("Test Graph", graphs.iterator().next().getName());
-        verify(graphRepository).findByUserId(1L);
+        verify(graphRepository).findWithNodesByUserIdOrderById(1L);
+        verify(graphRepository).findWithEdgesByIdIn(List.of(1L));
+        verify(graphRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    void shouldReturnSummaryPageWithNextCursor() {
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(graphRepository.findSummariesByUserIdAfter(1L, 0L, Limit.of(3))).thenReturn(List.of(
+                new GraphSummaryDto(4L, "A", false, false, 0, 0),
+                new GraphSummaryDto(7L, "B", false, false, 0, 0),
+                new GraphSummaryDto(9L, "C", false, false, 0, 0)));
+
+        GraphSummaryPageDto page = graphService.getGraphSummaries(null, 2, "validToken");
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(7L, page.getNextCursor());
+    }
+
+    @Test
+    void shouldReturnLastSummaryPageWithoutCursor() {
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(graphRepository.findSummariesByUserIdAfter(1L, 7L, Limit.of(201))).thenReturn(List.of(
+                new GraphSummaryDto(9L, "C", false, false, 0, 0)));
+
+        GraphSummaryPageDto page = graphService.getGraphSummaries(7L, 10_000, "validToken");
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldGetFullGraphWithTwoQueries() throws IllegalAccessException {
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(graphRepository.findWithNodesById(1L)).thenReturn(Optional.of(graph));
+
+        Graph result = graphService.getFullGraphById(1L, "validToken");
+
+        assertSame(graph, result);
+        verify(graphRepository).findWithEdgesByIdIn(List.of(1L));
+    }
+
+    @Test
+    void shouldNotExposeFullGraphOfAnotherUser() {
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(2L);
+        when(graphRepository.findWithNodesById(1L)).thenReturn(Optional.of(graph));
+
+        assertThrows(IllegalAccessException.class, () -> graphService.getFullGraphById(1L, "validToken"));
+        verify(graphRepository, never()).findWithEdgesByIdIn(any());
     }
 
     @Test
@@ -91,7 +150,7 @@ class GraphServiceTest {
         Graph newGraph = new Graph();
         newGraph.setName("New Graph");
 
-        Graph savedGraph = graphService.createGraph(newGraph, "validToken");
+        Graph savedGraph = graphService.createGraph(newGraph, null, "validToken");
 
         assertEquals("New Graph", savedGraph.getName());
         assertEquals(1L, savedGraph.getUser().getId());
@@ -127,17 +186,339 @@ class GraphServiceTest {
 
     @Test
     void shouldAddNodeToGraph() throws IllegalAccessException {
-        when(graphRepository.findById(1L)).thenReturn(Optional.of(graph));
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
         when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
-        when(nodeRepository.save(any(Node.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Node node = new Node();
         node.setLabel("New Node");
 
-        Node savedNode = graphService.addNodeToGraph(1L, node, "validToken");
+        List<Node> saved = graphService.addNodesToGraph(1L, List.of(node), "validToken");
 
-        assertEquals("New Node", savedNode.getLabel());
-        verify(nodeRepository).save(node);
-        verify(graphRepository).save(graph);
+        assertEquals("New Node", saved.get(0).getLabel());
+        assertTrue(graph.getNodes().contains(node));
+        assertEquals(1L, graph.getVersion());
+        verify(nodeRepository).saveAll(List.of(node));
+    }
+
+    @Test
+    void shouldKeepStoredCoordinatesWhenAddedNodeLeavesThemOut() throws IllegalAccessException {
+        Node existing = new Node();
+        existing.setId(5L);
+        existing.setLabel("A");
+        existing.setX(10.0);
+        existing.setY(20.0);
+        existing.setGraph(graph);
+        graph.getNodes().add(existing);
+
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+
+        Node renamed = new Node();
+        renamed.setId(5L);
+        renamed.setLabel("A2");
+        renamed.setY(25.0);
+
+        graphService.addNodesToGraph(1L, List.of(renamed), "validToken");
+
+        assertEquals("A2", existing.getLabel());
+        assertEquals(10.0, existing.getX());
+        assertEquals(25.0, existing.getY());
+    }
+
+    @Test
+    void shouldAddNodesToGraphInOneBatch() throws IllegalAccessException {
+        Node existing = new Node();
+        existing.setId(5L);
+        existing.setLabel("A");
+        existing.setGraph(graph);
+        graph.getNodes().add(existing);
+
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+
+        Node renamed = new Node();
+        renamed.setId(5L);
+        renamed.setLabel("A2");
+        Node fresh = new Node();
+        fresh.setId(-1L);
+        fresh.setLabel("B");
+        Node duplicate = new Node();
+        duplicate.setLabel("B");
+
+        List<Node> saved = graphService.addNodesToGraph(1L, List.of(renamed, fresh, duplicate), "validToken");
+
+        assertEquals(3, saved.size());
+        assertSame(existing, saved.get(0));
+        assertEquals("A2", existing.getLabel());
+        assertSame(saved.get(1), saved.get(2));
+        assertNull(fresh.getId());
+        assertSame(graph, fresh.getGraph());
+        verify(userAuthenticationProvider, times(1)).getUserIdByToken("validToken");
+        verify(graphRepository, times(1)).findForUpdateById(1L);
+        verify(nodeRepository).saveAll(List.of(fresh));
+        verify(nodeRepository, never()).save(any(Node.class));
+        verify(graphRepository, never()).save(any(Graph.class));
+    }
+
+    @Test
+    void shouldReplaceEdgesWithoutPerEdgeLookups() throws IllegalAccessException {
+        Node source = new Node();
+        source.setId(5L);
+        Node target = new Node();
+        target.setId(6L);
+        graph.getNodes().add(source);
+        graph.getNodes().add(target);
+
+        Edge existing = new Edge();
+        existing.setId(7L);
+        existing.setSource(source);
+        existing.setTarget(target);
+        existing.setWeight(1.0);
+        graph.getEdges().add(existing);
+
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+
+        List<Edge> saved = graphService.replaceEdges(1L,
+                List.of(new EdgeDto(7L, 6L, 5L, 2.0), new EdgeDto(-1L, 5L, 6L, 3.0)), "validToken");
+
+        assertEquals(2, saved.size());
+        assertSame(existing, saved.get(0));
+        assertSame(target, existing.getSource());
+        assertEquals(2.0, existing.getWeight());
+        assertSame(source, saved.get(1).getSource());
+        assertEquals(3.0, saved.get(1).getWeight());
+        verify(edgeRepository).saveAll(List.of(saved.get(1)));
+        verify(nodeRepository, never()).findById(any());
+        verify(edgeRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldStoreSubmittedWeightsOnBothSavePaths() throws IllegalAccessException {
+        graph.setWeighted(true);
+        Node source = new Node();
+        source.setId(5L);
+        Node target = new Node();
+        target.setId(6L);
+        graph.getNodes().add(source);
+        graph.getNodes().add(target);
+
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(nodeRepository.findByGraphIdAndIdIn(1L, Set.of(5L, 6L))).thenReturn(List.of(source, target));
+
+        List<Edge> replaced = graphService.replaceEdges(1L, List.of(new EdgeDto(-1L, 5L, 6L, 4.5)), "validToken");
+        graphService.applyChanges(1L, GraphChangeSetDto.builder()
+                .addedEdges(List.of(new EdgeDto(-2L, 6L, 5L, 4.5)))
+                .build(), "validToken");
+
+        assertEquals(4.5, replaced.get(0).getWeight());
+        verify(edgeRepository).saveAll(argThat(edges -> ((List<Edge>) edges).size() == 1
+                && ((List<Edge>) edges).get(0).getSource() == target
+                && ((List<Edge>) edges).get(0).getWeight() == 4.5));
+    }
+
+    @Test
+    void shouldRejectEdgesBetweenNodesOfAnotherGraph() {
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+
+        assertThrows(IllegalArgumentException.class, () -> graphService.replaceEdges(1L,
+                List.of(new EdgeDto(-1L, 5L, 6L, 3.0)), "validToken"));
+        verify(edgeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldApplyChangeSetInOneTransaction() throws IllegalAccessException {
+        graph.setVersion(3L);
+        Node existing = new Node();
+        existing.setId(5L);
+        existing.setLabel("A");
+        Edge edge = new Edge();
+        edge.setId(8L);
+
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(nodeRepository.findByGraphIdAndIdIn(1L, Set.of(5L))).thenReturn(List.of(existing));
+        when(edgeRepository.findByGraphIdAndIdIn(1L, List.of(8L))).thenReturn(List.of(edge));
+        when(nodeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Node> nodes = invocation.getArgument(0);
+            nodes.get(0).setId(11L);
+            return nodes;
+        });
+        when(edgeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Edge> edges = invocation.getArgument(0);
+            edges.get(0).setId(12L);
+            return edges;
+        });
+
+        GraphChangeSetDto changes = GraphChangeSetDto.builder()
+                .baseVersion(3L)
+                .addedNodes(List.of(new NodeDto(-1L, "B")))
+                .updatedNodes(List.of(new NodeDto(5L, "A2")))
+                .removedNodeIds(List.of(6L))
+                .addedEdges(List.of(new EdgeDto(-1L, 5L, -1L, 2.0)))
+                .updatedEdges(List.of(new EdgeDto(8L, -1L, 5L, 4.0)))
+                .removedEdgeIds(List.of(7L))
+                .build();
+
+        GraphSyncResultDto result = graphService.applyChanges(1L, changes, "validToken");
+
+        assertEquals(4L, result.getVersion());
+        assertEquals(4L, graph.getVersion());
+        assertEquals(Map.of(-1L, 11L), result.getNodeIds());
+        assertEquals(Map.of(-1L, 12L), result.getEdgeIds());
+        assertEquals("A2", existing.getLabel());
+        assertEquals(11L, edge.getSourceId());
+        assertSame(existing, edge.getTarget());
+        assertEquals(4.0, edge.getWeight());
+        verify(edgeRepository).deleteByGraphIdAndIdIn(1L, List.of(7L));
+        verify(edgeRepository).deleteByGraphIdAndNodeIdIn(1L, List.of(6L));
+        verify(nodeRepository).deleteByGraphIdAndIdIn(1L, List.of(6L));
+        verify(nodeRepository, never()).findById(any());
+        verify(edgeRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldRejectChangeSetBuiltOnStaleVersion() {
+        graph.setVersion(4L);
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+
+        GraphChangeSetDto changes = GraphChangeSetDto.builder()
+                .baseVersion(3L)
+                .removedEdgeIds(List.of(7L))
+                .build();
+
+        AppException exception = assertThrows(AppException.class, () -> graphService.applyChanges(1L, changes, "validToken"));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+        assertEquals(4L, graph.getVersion());
+        verify(edgeRepository, never()).deleteByGraphIdAndIdIn(any(), any());
+    }
+
+    @Test
+    void shouldRejectSecondEditorSavingFromTheSameLoadedVersion() throws IllegalAccessException {
+        graph.setVersion(2L);
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(graphRepository.save(any(Graph.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(nodeRepository.findIdsByGraphId(1L)).thenReturn(List.of());
+        when(edgeRepository.findIdsByGraphId(1L)).thenReturn(List.of());
+
+        Graph first = new Graph();
+        first.setId(1L);
+        first.setName("First");
+        Graph saved = graphService.createGraph(first, 2L, "validToken");
+        GraphSyncResultDto result = graphService.replaceContents(1L, GraphContentsDto.builder()
+                .baseVersion(saved.getVersion())
+                .nodes(List.of(new NodeDto(-1L, "A")))
+                .build(), "validToken");
+
+        Graph second = new Graph();
+        second.setId(1L);
+        second.setName("Second");
+        AppException exception = assertThrows(AppException.class, () -> graphService.createGraph(second, 2L, "validToken"));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+        assertEquals(4L, result.getVersion());
+        assertEquals("First", graph.getName());
+        assertEquals(4L, graph.getVersion());
+    }
+
+    @Test
+    void shouldReplaceEdgesAndKeepUnreferencedNodes() throws IllegalAccessException {
+        Node a = new Node();
+        a.setId(1L);
+        Node b = new Node();
+        b.setId(2L);
+        graph.getNodes().add(a);
+        graph.getNodes().add(b);
+
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(edgeRepository.findIdsByGraphId(1L)).thenReturn(List.of(11L));
+
+        List<Edge> saved = graphService.replaceEdges(1L, List.of(new EdgeDto(-1L, 1L, 2L, null)), "validToken");
+
+        assertEquals(1, saved.size());
+        assertSame(a, saved.get(0).getSource());
+        verify(edgeRepository).deleteByGraphIdAndIdIn(1L, List.of(11L));
+        verify(edgeRepository).saveAll(saved);
+        verify(edgeRepository, never()).deleteByGraphIdAndNodeIdIn(any(), any());
+        verify(nodeRepository, never()).deleteByGraphIdAndIdIn(any(), any());
+        verify(nodeRepository, never()).findIdsByGraphId(any());
+        assertEquals(1L, graph.getVersion());
+    }
+
+    @Test
+    void shouldReplaceContentsAsOneChangeSet() throws IllegalAccessException {
+        graph.setVersion(2L);
+        Node a = new Node();
+        a.setId(1L);
+        a.setLabel("A");
+
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(nodeRepository.findIdsByGraphId(1L)).thenReturn(List.of(1L, 3L));
+        when(edgeRepository.findIdsByGraphId(1L)).thenReturn(List.of(9L));
+        when(nodeRepository.findByGraphIdAndIdIn(1L, Set.of(1L))).thenReturn(List.of(a));
+        when(nodeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Node> nodes = invocation.getArgument(0);
+            nodes.get(0).setId(5L);
+            return nodes;
+        });
+
+        GraphContentsDto contents = GraphContentsDto.builder()
+                .baseVersion(2L)
+                .nodes(List.of(new NodeDto(1L, "A1"), new NodeDto(-1L, "B")))
+                .edges(List.of(new EdgeDto(-1L, 1L, -1L, 1.0)))
+                .build();
+
+        GraphSyncResultDto result = graphService.replaceContents(1L, contents, "validToken");
+
+        assertEquals(3L, result.getVersion());
+        assertEquals(Map.of(-1L, 5L), result.getNodeIds());
+        assertEquals("A1", a.getLabel());
+        verify(nodeRepository).deleteByGraphIdAndIdIn(1L, List.of(3L));
+        verify(edgeRepository).deleteByGraphIdAndNodeIdIn(1L, List.of(3L));
+        verify(edgeRepository).deleteByGraphIdAndIdIn(1L, List.of(9L));
+        verify(edgeRepository).saveAll(argThat(edges -> {
+            Edge edge = ((List<Edge>) edges).get(0);
+            return edge.getSource() == a && edge.getTargetId() == 5L;
+        }));
+    }
+
+    @Test
+    void shouldKeepStoredCoordinatesWhenUpdateLeavesThemOut() throws IllegalAccessException {
+        Node a = new Node();
+        a.setId(1L);
+        a.setLabel("A");
+        a.setX(10.0);
+        a.setY(20.0);
+        Node b = new Node();
+        b.setId(2L);
+        b.setLabel("B");
+        b.setX(30.0);
+        b.setY(40.0);
+
+        when(graphRepository.findForUpdateById(1L)).thenReturn(Optional.of(graph));
+        when(userAuthenticationProvider.getUserIdByToken("validToken")).thenReturn(1L);
+        when(nodeRepository.findIdsByGraphId(1L)).thenReturn(List.of(1L, 2L));
+        when(edgeRepository.findIdsByGraphId(1L)).thenReturn(List.of());
+        when(nodeRepository.findByGraphIdAndIdIn(1L, Set.of(1L, 2L))).thenReturn(List.of(a, b));
+
+        GraphContentsDto contents = GraphContentsDto.builder()
+                .nodes(List.of(new NodeDto(1L, "A1"), new NodeDto(2L, "B", 35.0, 45.0)))
+                .edges(List.of())
+                .build();
+
+        graphService.replaceContents(1L, contents, "validToken");
+
+        assertEquals("A1", a.getLabel());
+        assertEquals(10.0, a.getX());
+        assertEquals(20.0, a.getY());
+        assertEquals(35.0, b.getX());
+        assertEquals(45.0, b.getY());
     }
 }
@@ -0,0 +1,65 @@
+package com.algovise.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GzipVariantTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteCompressedCopyNextToFile() throws IOException {
+        Path file = directory.resolve("tutorial.md");
+        byte[] content = "# Heading\n".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        Files.write(file, content);
+
+        GzipVariant.write(file);
+
+        Path variant = directory.resolve("tutorial.md.gz");
+        assertEquals(variant, GzipVariant.pathOf(file));
+        assertTrue(Files.size(variant) < content.length);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(variant))) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+
+        GzipVariant.delete(file);
+        assertFalse(Files.exists(variant));
+    }
+
+    @Test
+    void shouldDropVariantThatIsNotSmaller() throws IOException {
+        Path file = directory.resolve("quiz.json");
+
+        Files.writeString(file, "{}");
+        Files.write(GzipVariant.pathOf(file), new byte[]{1});
+
+        GzipVariant.write(file);
+
+        assertFalse(Files.exists(GzipVariant.pathOf(file)));
+    }
+
+    @Test
+    void shouldHonourAcceptEncodingQualities() {
+        assertTrue(GzipVariant.isAccepted("gzip, deflate, br"));
+        assertTrue(GzipVariant.isAccepted("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(GzipVariant.isAccepted("*"));
+        assertFalse(GzipVariant.isAccepted("gzip;q=0"));
+        assertFalse(GzipVariant.isAccepted("*;q=0"));
+        assertFalse(GzipVariant.isAccepted("*, gzip;q=0"));
+        assertFalse(GzipVariant.isAccepted("br, *;q=1.0, gzip;q=0"));
+        assertTrue(GzipVariant.isAccepted("*;q=0, gzip"));
+        assertFalse(GzipVariant.isAccepted("identity"));
+        assertFalse(GzipVariant.isAccepted(null));
+    }
+}
@@ -3,15 +3,20 @@ package com.algovise.services;
 import com.algovise.dtos.QuizDto;
 import com.algovise.entities.Quiz;
 import com.algovise.repositories.QuizRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.FileSystemResource;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,12 +28,12 @@ class QuizServiceTest {
     @Mock
     private QuizRepository quizRepository;
 
-    @InjectMocks
     private QuizService quizService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        quizService = new QuizService(quizRepository, new ObjectMapper());
     }
 
     @Test
@@ -51,6 +56,29 @@ class QuizServiceTest {
         verify(quizRepository).findAll();
     }
 
+    @Test
+    void shouldServeQuizCatalogFromSnapshotUntilItChanges() {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setTitle("Quiz 1");
+
+        when(quizRepository.findAll()).thenReturn(List.of(quiz), List.of());
+
+        CatalogSnapshot first = quizService.getQuizCatalog();
+        CatalogSnapshot second = quizService.getQuizCatalog();
+
+        assertSame(first, second);
+        assertEquals("[{\"id\":1,\"title\":\"Quiz 1\"}]", new String(first.json(), StandardCharsets.UTF_8));
+        verify(quizRepository, times(1)).findAll();
+
+        quizService.deleteQuiz(1L);
+
+        CatalogSnapshot third = quizService.getQuizCatalog();
+        assertEquals("[]", new String(third.json(), StandardCharsets.UTF_8));
+        assertNotEquals(first.eTag(), third.eTag());
+        verify(quizRepository, times(2)).findAll();
+    }
+
     @Test
     void shouldGetQuizContent() throws IOException {
         Quiz quiz = new Quiz();
@@ -60,13 +88,104 @@ class QuizServiceTest {
         when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
         Path mockPath = Path.of(quiz.getFilePath());
         String mockContent = "This is the content of the quiz.";
-        mockStatic(Files.class);
-        when(Files.readString(mockPath)).thenReturn(mockContent);
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn((long) mockContent.length());
+            files.when(() -> Files.readAllBytes(mockPath)).thenReturn(mockContent.getBytes(StandardCharsets.UTF_8));
 
-        String content = quizService.getQuizContent(1L);
+            String content = quizService.getQuizContent(1L);
 
-        assertEquals(mockContent, content);
-        verify(quizRepository).findById(1L);
+            assertEquals(mockContent, content);
+            verify(quizRepository).findById(1L);
+        }
+    }
+
+    @Test
+    void shouldServeRepeatedQuizContentFromMemory() throws IOException {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setFilePath("/path/to/quiz.txt");
+
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+        Path mockPath = Path.of(quiz.getFilePath());
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn(10L);
+            files.when(() -> Files.readAllBytes(mockPath)).thenReturn("Zażółć".getBytes(StandardCharsets.UTF_8));
+
+            FileContent first = quizService.getQuizFile(1L);
+            FileContent second = quizService.getQuizFile(1L);
+
+            assertArrayEquals("Zażółć".getBytes(StandardCharsets.UTF_8), first.bytes());
+            assertSame(first, second);
+            assertEquals(FileContent.hashOf(first.bytes()), first.contentHash());
+            verify(quizRepository, times(1)).save(quiz);
+            verify(quizRepository, times(1)).findById(1L);
+            files.verify(() -> Files.readAllBytes(mockPath), times(1));
+        }
+    }
+
+    @Test
+    void shouldReloadQuizContentAfterUploadOrDelete() throws IOException {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setFilePath("/path/to/quiz.txt");
+
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+        Path mockPath = Path.of(quiz.getFilePath());
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn(6L);
+            files.when(() -> Files.readAllBytes(mockPath)).thenReturn("old".getBytes(), "new".getBytes(), "newest".getBytes());
+
+            quizService.getQuizFile(1L);
+            quizService.saveQuiz("Replacement", "/path/to/quiz.txt", "hash");
+            assertEquals("new", quizService.getQuizContent(1L));
+            quizService.deleteQuiz(1L);
+            assertEquals("newest", quizService.getQuizContent(1L));
+        }
+    }
+
+    @Test
+    void shouldNotCacheQuizContentReadBeforeConcurrentUpload() throws IOException {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setFilePath("/path/to/quiz.txt");
+
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+        Path mockPath = Path.of(quiz.getFilePath());
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn(3L);
+            // the upload lands while the first read is still on the old file
+            files.when(() -> Files.readAllBytes(mockPath)).thenAnswer(invocation -> {
+                quizService.saveQuiz("Replacement", "/path/to/quiz.txt", "hash");
+                return "old".getBytes();
+            }).thenReturn("new".getBytes());
+
+            assertEquals("old", quizService.getQuizContent(1L));
+            assertEquals("new", quizService.getQuizContent(1L));
+            files.verify(() -> Files.readAllBytes(mockPath), times(2));
+        }
+    }
+
+    @Test
+    void shouldStreamLargeQuizFromDisk() throws IOException {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setFilePath("/path/to/quiz.txt");
+
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+        Path mockPath = Path.of(quiz.getFilePath());
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn(100L * 1024 * 1024);
+            files.when(() -> Files.newInputStream(mockPath))
+                    .thenAnswer(invocation -> new ByteArrayInputStream("large".getBytes(StandardCharsets.UTF_8)));
+
+            FileContent content = quizService.getQuizFile(1L);
+
+            assertNull(content.bytes());
+            assertEquals(100L * 1024 * 1024, content.length());
+            assertInstanceOf(FileSystemResource.class, content.asResource());
+            assertEquals(FileContent.hashOf("large".getBytes(StandardCharsets.UTF_8)), content.contentHash());
+            files.verify(() -> Files.readAllBytes(mockPath), never());
+        }
     }
 
     @Test
@@ -81,10 +200,31 @@ class QuizServiceTest {
 
     @Test
     void shouldSaveQuiz() {
-        quizService.saveQuiz("New Quiz", "/path/to/new_quiz.txt");
+        quizService.saveQuiz("New Quiz", "/path/to/new_quiz.txt", "abc123");
 
         verify(quizRepository).save(argThat(quiz ->
-                quiz.getTitle().equals("New Quiz") && quiz.getFilePath().equals("/path/to/new_quiz.txt")));
+                quiz.getTitle().equals("New Quiz") && quiz.getFilePath().equals("/path/to/new_quiz.txt")
+                        && quiz.getContentHash().equals("abc123") && quiz.getLastModified() != null));
+    }
+
+    @Test
+    void shouldReplaceExistingQuizUploadedToSamePath() {
+        Quiz existing = new Quiz();
+        existing.setId(1L);
+        existing.setTitle("Old");
+        existing.setFilePath("/path/to/quiz.txt");
+        existing.setContentHash("old-hash");
+        existing.setLastModified(Instant.EPOCH);
+
+        when(quizRepository.findByFilePath("/path/to/quiz.txt")).thenReturn(List.of(existing));
+
+        quizService.saveQuiz("New", "/path/to/quiz.txt", "new-hash");
+
+        assertEquals("New", existing.getTitle());
+        assertEquals("new-hash", existing.getContentHash());
+        assertTrue(existing.getLastModified().isAfter(Instant.EPOCH));
+        verify(quizRepository).save(existing);
+        verify(quizRepository, times(1)).save(any(Quiz.class));
     }
 
     @Test
@@ -3,15 +3,20 @@ package com.algovise.services;
 import com.algovise.dtos.TutorialDto;
 import com.algovise.entities.Tutorial;
 import com.algovise.repositories.TutorialRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.FileSystemResource;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,12 +28,12 @@ class TutorialServiceTest {
     @Mock
     private TutorialRepository tutorialRepository;
 
-    @InjectMocks
     private TutorialService tutorialService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        tutorialService = new TutorialService(tutorialRepository, new ObjectMapper());
     }
 
     @Test
@@ -51,6 +56,29 @@ class TutorialServiceTest {
         verify(tutorialRepository).findAll();
     }
 
+    @Test
+    void shouldServeTutorialCatalogFromSnapshotUntilItChanges() {
+        Tutorial tutorial = new Tutorial();
+        tutorial.setId(1L);
+        tutorial.setTitle("Tutorial 1");
+
+        when(tutorialRepository.findAll()).thenReturn(List.of(tutorial), List.of());
+
+        CatalogSnapshot first = tutorialService.getTutorialCatalog();
+        CatalogSnapshot second = tutorialService.getTutorialCatalog();
+
+        assertSame(first, second);
+        assertEquals("[{\"id\":1,\"title\":\"Tutorial 1\"}]", new String(first.json(), StandardCharsets.UTF_8));
+        verify(tutorialRepository, times(1)).findAll();
+
+        tutorialService.deleteTutorial(1L);
+
+        CatalogSnapshot third = tutorialService.getTutorialCatalog();
+        assertEquals("[]", new String(third.json(), StandardCharsets.UTF_8));
+        assertNotEquals(first.eTag(), third.eTag());
+        verify(tutorialRepository, times(2)).findAll();
+    }
+
     @Test
     void shouldGetTutorialContent() throws IOException {
         Tutorial tutorial = new Tutorial();
@@ -60,13 +88,104 @@ class TutorialServiceTest {
         when(tutorialRepository.findById(1L)).thenReturn(Optional.of(tutorial));
         Path mockPath = Path.of(tutorial.getFilePath());
         String mockContent = "This is the tutorial content.";
-        mockStatic(Files.class);
-        when(Files.readString(mockPath)).thenReturn(mockContent);
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn((long) mockContent.length());
+            files.when(() -> Files.readAllBytes(mockPath)).thenReturn(mockContent.getBytes(StandardCharsets.UTF_8));
 
-        String content = tutorialService.getTutorialContent(1L);
+            String content = tutorialService.getTutorialContent(1L);
 
-        assertEquals(mockContent, content);
-        verify(tutorialRepository).findById(1L);
+            assertEquals(mockContent, content);
+            verify(tutorialRepository).findById(1L);
+        }
+    }
+
+    @Test
+    void shouldServeRepeatedTutorialContentFromMemory() throws IOException {
+        Tutorial tutorial = new Tutorial();
+        tutorial.setId(1L);
+        tutorial.setFilePath("/path/to/tutorial.txt");
+
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(tutorial));
+        Path mockPath = Path.of(tutorial.getFilePath());
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn(10L);
+            files.when(() -> Files.readAllBytes(mockPath)).thenReturn("Zażółć".getBytes(StandardCharsets.UTF_8));
+
+            FileContent first = tutorialService.getTutorialFile(1L);
+            FileContent second = tutorialService.getTutorialFile(1L);
+
+            assertArrayEquals("Zażółć".getBytes(StandardCharsets.UTF_8), first.bytes());
+            assertSame(first, second);
+            assertEquals(FileContent.hashOf(first.bytes()), first.contentHash());
+            verify(tutorialRepository, times(1)).save(tutorial);
+            verify(tutorialRepository, times(1)).findById(1L);
+            files.verify(() -> Files.readAllBytes(mockPath), times(1));
+        }
+    }
+
+    @Test
+    void shouldReloadTutorialContentAfterUploadOrDelete() throws IOException {
+        Tutorial tutorial = new Tutorial();
+        tutorial.setId(1L);
+        tutorial.setFilePath("/path/to/tutorial.txt");
+
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(tutorial));
+        Path mockPath = Path.of(tutorial.getFilePath());
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn(6L);
+            files.when(() -> Files.readAllBytes(mockPath)).thenReturn("old".getBytes(), "new".getBytes(), "newest".getBytes());
+
+            tutorialService.getTutorialFile(1L);
+            tutorialService.saveTutorial("Replacement", "/path/to/tutorial.txt", "hash");
+            assertEquals("new", tutorialService.getTutorialContent(1L));
+            tutorialService.deleteTutorial(1L);
+            assertEquals("newest", tutorialService.getTutorialContent(1L));
+        }
+    }
+
+    @Test
+    void shouldNotCacheTutorialContentReadBeforeConcurrentUpload() throws IOException {
+        Tutorial tutorial = new Tutorial();
+        tutorial.setId(1L);
+        tutorial.setFilePath("/path/to/tutorial.txt");
+
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(tutorial));
+        Path mockPath = Path.of(tutorial.getFilePath());
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn(3L);
+            // the upload lands while the first read is still on the old file
+            files.when(() -> Files.readAllBytes(mockPath)).thenAnswer(invocation -> {
+                tutorialService.saveTutorial("Replacement", "/path/to/tutorial.txt", "hash");
+                return "old".getBytes();
+            }).thenReturn("new".getBytes());
+
+            assertEquals("old", tutorialService.getTutorialContent(1L));
+            assertEquals("new", tutorialService.getTutorialContent(1L));
+            files.verify(() -> Files.readAllBytes(mockPath), times(2));
+        }
+    }
+
+    @Test
+    void shouldStreamLargeTutorialFromDisk() throws IOException {
+        Tutorial tutorial = new Tutorial();
+        tutorial.setId(1L);
+        tutorial.setFilePath("/path/to/tutorial.txt");
+
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(tutorial));
+        Path mockPath = Path.of(tutorial.getFilePath());
+        try (MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.size(mockPath)).thenReturn(100L * 1024 * 1024);
+            files.when(() -> Files.newInputStream(mockPath))
+                    .thenAnswer(invocation -> new ByteArrayInputStream("large".getBytes(StandardCharsets.UTF_8)));
+
+            FileContent content = tutorialService.getTutorialFile(1L);
+
+            assertNull(content.bytes());
+            assertEquals(100L * 1024 * 1024, content.length());
+            assertInstanceOf(FileSystemResource.class, content.asResource());
+            assertEquals(FileContent.hashOf("large".getBytes(StandardCharsets.UTF_8)), content.contentHash());
+            files.verify(() -> Files.readAllBytes(mockPath), never());
+        }
     }
 
     @Test
@@ -81,10 +200,31 @@ class TutorialServiceTest {
 
     @Test
     void shouldSaveTutorial() {
-        tutorialService.saveTutorial("New Tutorial", "/path/to/new_tutorial.txt");
+        tutorialService.saveTutorial("New Tutorial", "/path/to/new_tutorial.txt", "abc123");
 
         verify(tutorialRepository).save(argThat(tutorial ->
-                tutorial.getTitle().equals("New Tutorial") && tutorial.getFilePath().equals("/path/to/new_tutorial.txt")));
+                tutorial.getTitle().equals("New Tutorial") && tutorial.getFilePath().equals("/path/to/new_tutorial.txt")
+                        && tutorial.getContentHash().equals("abc123") && tutorial.getLastModified() != null));
+    }
+
+    @Test
+    void shouldReplaceExistingTutorialUploadedToSamePath() {
+        Tutorial existing = new Tutorial();
+        existing.setId(1L);
+        existing.setTitle("Old");
+        existing.setFilePath("/path/to/tutorial.txt");
+        existing.setContentHash("old-hash");
+        existing.setLastModified(Instant.EPOCH);
+
+        when(tutorialRepository.findByFilePath("/path/to/tutorial.txt")).thenReturn(List.of(existing));
+
+        tutorialService.saveTutorial("New", "/path/to/tutorial.txt", "new-hash");
+
+        assertEquals("New", existing.getTitle());
+        assertEquals("new-hash", existing.getContentHash());
+        assertTrue(existing.getLastModified().isAfter(Instant.EPOCH));
+        verify(tutorialRepository).save(existing);
+        verify(tutorialRepository, times(1)).save(any(Tutorial.class));
     }
 
     @Test
@@ -7,8 +7,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,7 +54,7 @@ class UserCompletedQuizzesServiceTest {
         service.saveCompletedQuiz(1L, 101L);
 
         verify(repository).existsByUserIdAndQuizId(1L, 101L);
-        verify(repository).save(argThat(quiz -> quiz.getUserId().equals(1L) && quiz.getQuizId().equals(101L)));
+        verify(repository).saveAndFlush(argThat(quiz -> quiz.getUserId().equals(1L) && quiz.getQuizId().equals(101L)));
     }
 
     @Test
@@ -64,27 +64,58 @@ class UserCompletedQuizzesServiceTest {
         service.saveCompletedQuiz(1L, 101L);
 
         verify(repository).existsByUserIdAndQuizId(1L, 101L);
-        verify(repository, never()).save(any(UserCompletedQuizzes.class));
+        verify(repository, never()).saveAndFlush(any(UserCompletedQuizzes.class));
+    }
+
+    @Test
+    void shouldIgnoreCompletionSavedConcurrently() {
+        when(repository.existsByUserIdAndQuizId(1L, 101L)).thenReturn(false, true);
+        when(repository.saveAndFlush(any(UserCompletedQuizzes.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_completed_quiz_user_quiz"));
+
+        assertDoesNotThrow(() -> service.saveCompletedQuiz(1L, 101L));
+    }
+
+    @Test
+    void shouldRethrowIntegrityViolationOtherThanDuplicate() {
+        when(repository.existsByUserIdAndQuizId(1L, 101L)).thenReturn(false);
+        when(repository.saveAndFlush(any(UserCompletedQuizzes.class)))
+                .thenThrow(new DataIntegrityViolationException("user_id cannot be null"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> service.saveCompletedQuiz(1L, 101L));
+        verify(repository, times(2)).existsByUserIdAndQuizId(1L, 101L);
     }
 
     @Test
     void shouldDeleteQuizFromAllUsers() {
-        List<UserCompletedQuizzes> quizzes = new ArrayList<>();
-        UserCompletedQuizzes quiz1 = new UserCompletedQuizzes();
-        quiz1.setUserId(1L);
-        quiz1.setQuizId(101L);
-        quizzes.add(quiz1);
+        when(repository.deleteByQuizId(101L)).thenReturn(2);
 
-        UserCompletedQuizzes quiz2 = new UserCompletedQuizzes();
-        quiz2.setUserId(2L);
-        quiz2.setQuizId(101L);
-        quizzes.add(quiz2);
+        service.deleteQuiz(101L);
+
+        verify(repository).deleteByQuizId(101L);
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void shouldLoadCompletedQuizIdsOncePerUser() {
+        when(repository.findQuizIdsByUserId(1L)).thenReturn(List.of(103L, 101L));
+        when(repository.existsByUserIdAndQuizId(1L, 102L)).thenReturn(false);
 
-        when(repository.findAll()).thenReturn(quizzes);
+        assertEquals(List.of(101L, 103L), service.getCompletedQuizIds(1L));
+        service.saveCompletedQuiz(1L, 102L);
+
+        assertEquals(List.of(101L, 102L, 103L), service.getCompletedQuizIds(1L));
+        verify(repository, times(1)).findQuizIdsByUserId(1L);
+    }
+
+    @Test
+    void shouldReloadCompletedQuizIdsAfterQuizDeletion() {
+        when(repository.findQuizIdsByUserId(1L)).thenReturn(List.of(101L), List.of());
 
+        assertEquals(List.of(101L), service.getCompletedQuizIds(1L));
         service.deleteQuiz(101L);
 
-        verify(repository, times(1)).delete(quiz1);
-        verify(repository, times(1)).delete(quiz2);
+        assertEquals(List.of(), service.getCompletedQuizIds(1L));
+        verify(repository, times(2)).findQuizIdsByUserId(1L);
     }
 }
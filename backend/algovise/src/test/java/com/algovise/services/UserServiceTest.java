@@ -1,5 +1,6 @@
 package com.algovise.services;
 
+import com.algovise.dtos.CacheStatisticsDto;
 import com.algovise.dtos.CredentialsDto;
 import com.algovise.dtos.SignUpDto;
 import com.algovise.dtos.UserDto;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.nio.CharBuffer;
@@ -31,6 +33,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -177,4 +182,78 @@ class UserServiceTest {
         assertEquals("User not found with id: 1", exception.getMessage());
         verify(userRepository, never()).delete(any());
     }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("TestUser");
+        UserDto userDto = new UserDto(1L, "TestUser", "test@example.com", null, "USER");
+
+        when(userRepository.findByName("TestUser")).thenReturn(Optional.of(user));
+        when(userMapper.toUserDto(user)).thenReturn(userDto);
+
+        UserDto first = userService.findByName("TestUser");
+        first.setToken("token");
+        UserDto second = userService.findByName("TestUser");
+        UserDto byId = userService.getUserById(1L);
+
+        assertEquals("TestUser", second.getName());
+        assertNull(second.getToken());
+        assertEquals(1L, byId.getId());
+        verify(userRepository, times(1)).findByName("TestUser");
+        verify(userRepository, never()).findById(any());
+        CacheStatisticsDto statistics = userService.getCacheStatistics();
+        assertEquals(2, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    void shouldInvalidateCachedUserOnUpdate() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("OldName");
+
+        when(userRepository.findByName("OldName")).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+        when(userMapper.toUserDto(user)).thenAnswer(invocation -> new UserDto(1L, user.getName(), null, null, "USER"));
+
+        userService.findByName("OldName");
+        userService.updateName(1L, "NewName");
+
+        assertEquals("NewName", userService.getUserById(1L).getName());
+        verify(userRepository, times(2)).findById(1L);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1L));
+        assertEquals(0, userService.getCacheStatistics().getHits());
+    }
+
+    @Test
+    void shouldNotCacheUserLoadedBeforeConcurrentChange() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("TestUser");
+        user.setEmail("old@example.com");
+        User stale = new User();
+        stale.setId(1L);
+        stale.setName("TestUser");
+        stale.setEmail("old@example.com");
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+        when(userMapper.toUserDto(any(User.class))).thenAnswer(invocation -> {
+            User mapped = invocation.getArgument(0);
+            return new UserDto(mapped.getId(), mapped.getName(), mapped.getEmail(), null, "USER");
+        });
+        // the change commits while the lookup is still reading the old row
+        when(userRepository.findByName("TestUser")).thenAnswer(invocation -> {
+            userService.updateEmail(1L, "new@example.com");
+            return Optional.of(stale);
+        }).thenReturn(Optional.of(user));
+
+        assertEquals("old@example.com", userService.findByName("TestUser").getEmail());
+        assertEquals("new@example.com", userService.findByName("TestUser").getEmail());
+        assertEquals(0, userService.getCacheStatistics().getHits());
+    }
 }
@@ -15,9 +15,6 @@ const AStar: React.FC = () => {
   const [popupMessage, setPopupMessage] = useState("");
   const [adjacencyList, setAdjacencyList] = useState(new Map());
 
-  const heuristic = (nodeId: any, destinationId: any) => {
-    return 0;
-  };
 
   const steps = [
     "",
@@ -46,6 +43,37 @@ const AStar: React.FC = () => {
   const directed = location.state?.directed || false;
   const graphName = location.state?.graphName || "Unnamed Graph";
 
+  const nodesById = new Map<any, { x?: number; y?: number }>(nodes.map((n: { id: any }) => [n.id, n]));
+
+  const distanceBetween = (a: any, b: any) => {
+    const from = nodesById.get(a);
+    const to = nodesById.get(b);
+    return Math.hypot((from?.x ?? 0) - (to?.x ?? 0), (from?.y ?? 0) - (to?.y ?? 0));
+  };
+
+  // Straight-line distance is only a lower bound once scaled down to the cheapest weight per unit of length.
+  const coordinateScale = (() => {
+    if (nodes.length === 0 || nodes.some((n: { x?: number; y?: number }) => typeof n.x !== 'number' || typeof n.y !== 'number')) {
+      return 0;
+    }
+    let scale = Infinity;
+    for (const edge of edges) {
+      const weight = edge.weight || 1;
+      if (weight < 0) {
+        return 0;
+      }
+      const length = distanceBetween(edge.source.id, edge.target.id);
+      if (length > 0) {
+        scale = Math.min(scale, weight / length);
+      }
+    }
+    return scale === Infinity ? 0 : scale;
+  })();
+
+  const heuristic = (nodeId: any, destinationId: any) => {
+    return coordinateScale === 0 ? 0 : coordinateScale * distanceBetween(nodeId, destinationId);
+  };
+
   const handleSourceChange = (e: React.ChangeEvent<HTMLInputElement>) => {
     setSource(e.target.value);
   };
@@ -51,8 +51,10 @@ const GraphCreator: React.FC = () => {
   const saveButtonClicked = async () => {
     try {
       const savedGraph = await saveGraph();
-      const updatedNodes = await saveNodes(savedGraph?.id);
-      await saveEdges(updatedNodes, savedGraph?.id);
+      if (!savedGraph) {
+        return;
+      }
+      await saveContents(savedGraph.id, savedGraph.version);
     } catch (error) {
       console.error("Error saving data:", error);
     }
@@ -67,8 +69,10 @@ const GraphCreator: React.FC = () => {
       weighted: graphBasicsTableRow[0][2].toLowerCase() === "yes" || graphBasicsTableRow[0][2].toLowerCase() === "true",
     };
 
+    const query = fetchedGraph ? `?baseVersion=${fetchedGraph.version}` : "";
+
     try {
-      const response = await fetch("http://localhost:8080/graphs", {
+      const response = await fetch(`http://localhost:8080/graphs${query}`, {
         method: "POST",
         headers: {
           Authorization: `Bearer ${token}`,
@@ -87,66 +91,26 @@ const GraphCreator: React.FC = () => {
     } catch (error) { }
   };
 
-  const saveNodes = async (graphId: number) => {
-    const token = getToken();
-    const nodeData = nodes.map((node) => ({ id: node.id ?? null, label: node.label }));
-
-    try {
-      const response = await fetch(`http://localhost:8080/graphs/${graphId}/nodes`, {
-        method: "POST",
-        headers: {
-          Authorization: `Bearer ${token}`,
-          "Content-Type": "application/json",
-        },
-        body: JSON.stringify(nodeData),
-      });
-
-      if (!response.ok) {
-        throw new Error("Failed to save nodes");
-      }
-
-      const responseJson = await response.json();
-      const updatedNodes = responseJson.map((node: { id: any; label: any; }) => ({ id: node.id, label: node.label }));
-      return updatedNodes;
-    } catch (error) { }
-  };
-
-  const saveEdges = async (updatedNodes: { id: number; label: string }[], graphId: number) => {
-
+  const saveContents = async (graphId: number, version: number) => {
     const token = getToken();
-
-
-    const edgesToBeSent = edges.map(({ id, source, target, weight }) => {
-      const updatedSourceId =
-        source?.id < 0
-          ? updatedNodes.find((node) => node.label === edges.find((e) => e.id === id)?.source?.label)?.id
-          : source?.id;
-
-      const updatedTargetId =
-        target?.id < 0
-          ? updatedNodes.find((node) => node.label === edges.find((e) => e.id === id)?.target?.label)?.id
-          : target?.id;
-
-      return {
-        id,
-        sourceId: updatedSourceId,
-        targetId: updatedTargetId,
-        weight,
-      };
-    });
+    const contents = {
+      baseVersion: version,
+      nodes: nodes.map((node) => ({ id: node.id, label: node.label })),
+      edges: edges.map(({ id, source, target, weight }) => ({ id, sourceId: source, targetId: target, weight })),
+    };
 
     try {
-      const response = await fetch(`http://localhost:8080/graphs/${graphId}/edges`, {
-        method: "POST",
+      const response = await fetch(`http://localhost:8080/graphs/${graphId}/contents`, {
+        method: "PUT",
         headers: {
           Authorization: `Bearer ${token}`,
           "Content-Type": "application/json",
         },
-        body: JSON.stringify(edgesToBeSent),
+        body: JSON.stringify(contents),
       });
 
       if (!response.ok) {
-        throw new Error("Failed to save edges");
+        throw new Error("Failed to save graph contents");
       }
 
       localStorage.setItem("graphId", String(graphId))
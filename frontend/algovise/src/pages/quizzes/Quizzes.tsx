@@ -77,32 +77,30 @@ const Quizzes: React.FC = () => {
         return;
       }
 
-      const completionStatus: { [key: number]: boolean } = {};
-
-      for (const quiz of quizzes) {
-        try {
-          const response = await fetch(
-            `http://localhost:8080/completed-quizzes?userId=${userId}&quizId=${quiz.id}`,
-            {
-              method: "GET",
-              headers: {
-                "Authorization": `Bearer ${token}`,
-                "Content-Type": "application/json",
-              },
-            }
-          );
-          if (response.ok) {
-            const isCompleted = await response.json();
-            completionStatus[quiz.id] = isCompleted;
-          } else {
-            console.error(`Failed to fetch completion status for quiz ${quiz.id}`);
+      try {
+        const response = await fetch(
+          `http://localhost:8080/completed-quizzes/${userId}`,
+          {
+            method: "GET",
+            headers: {
+              "Authorization": `Bearer ${token}`,
+              "Content-Type": "application/json",
+            },
+          }
+        );
+        if (response.ok) {
+          const completedIds: number[] = await response.json();
+          const completionStatus: { [key: number]: boolean } = {};
+          for (const quizId of completedIds) {
+            completionStatus[quizId] = true;
           }
-        } catch (error) {
-          console.error(`Error fetching completion status for quiz ${quiz.id}:`, error);
+          setCompletedQuizzes(completionStatus);
+        } else {
+          console.error("Failed to fetch completed quizzes.");
         }
+      } catch (error) {
+        console.error("Error fetching completed quizzes:", error);
       }
-
-      setCompletedQuizzes(completionStatus);
     };
 
     fetchCompletionStatus();
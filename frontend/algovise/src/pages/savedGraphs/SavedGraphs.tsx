@@ -20,18 +20,25 @@ const SavedGraphs: React.FC = () => {
   const fetchGraphs = async () => {
     try {
       const token = getToken();
-      const response = await fetch("http://localhost:8080/graphs", {
-        headers: {
-          Authorization: `Bearer ${token}`,
-        },
-      });
+      let cursor: number | null = null;
+      let loaded: GraphData[] = [];
+      do {
+        const query: string = cursor === null ? "" : `?after=${cursor}`;
+        const response = await fetch(`http://localhost:8080/graphs/summaries${query}`, {
+          headers: {
+            Authorization: `Bearer ${token}`,
+          },
+        });
 
-      if (!response.ok) {
-        throw new Error("Failed to fetch graphs");
-      }
+        if (!response.ok) {
+          throw new Error("Failed to fetch graphs");
+        }
 
-      const data = await response.json();
-      setGraphs(data);
+        const page: { items: GraphData[]; nextCursor: number | null } = await response.json();
+        loaded = [...loaded, ...page.items];
+        setGraphs(loaded);
+        cursor = page.nextCursor;
+      } while (cursor !== null);
     } catch (error) {
       console.error("Error fetching graphs:", error);
     }
@@ -1,6 +1,8 @@
 export interface Node {
   id: number;
   label: string;
+  x?: number;
+  y?: number;
 }
 
 export interface Edge {
@@ -14,6 +16,7 @@ export interface Graph {
   name: string;
   directed: boolean;
   weighted: boolean;
+  version: number;
   nodes: Node[];
   edges: Edge[];
   userId: number;